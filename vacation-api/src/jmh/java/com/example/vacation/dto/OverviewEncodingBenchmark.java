@@ -0,0 +1,75 @@
+package com.example.vacation.dto;
+
+import com.example.vacation.entity.VacationRequest.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON against CBOR and Smile for {@link EmployeeVacationOverviewDTO} with large request lists:
+ * encode and decode time per format, plus the payload size, which setup prints once per
+ * format and history size. The binary mappers are copies of the JSON one, as in the web layer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverviewEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"100", "10000", "100000"})
+    public int historySize;
+
+    private ObjectMapper mapper;
+    private EmployeeVacationOverviewDTO overview;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        mapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+
+        List<VacationRequestSummaryDTO> requests = new ArrayList<>(historySize);
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(1999, 12, 1, 9, 0);
+        for (int i = 0; i < historySize; i++) {
+            boolean resolved = i % 3 != 0;
+            Status status = !resolved ? Status.PENDING : i % 3 == 1 ? Status.APPROVED : Status.REJECTED;
+            requests.add(new VacationRequestSummaryDTO((long) i, 1L, "Alice Employee", resolved ? 2L : null,
+                    day, day.plusDays(1), status, resolved, createdAt.plusHours(i)));
+            day = day.plusDays(3);
+        }
+        overview = new EmployeeVacationOverviewDTO(1L, "Alice Employee", "EMPLOYEE", 12, requests);
+        encoded = mapper.writeValueAsBytes(overview);
+
+        System.out.printf("%n%s payload for %d requests: %d bytes (%.1f bytes per request)%n",
+                format, historySize, encoded.length, (double) encoded.length / historySize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(overview);
+    }
+
+    @Benchmark
+    public EmployeeVacationOverviewDTO decode() throws IOException {
+        return mapper.readValue(encoded, EmployeeVacationOverviewDTO.class);
+    }
+}
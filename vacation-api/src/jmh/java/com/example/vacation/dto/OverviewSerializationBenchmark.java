@@ -0,0 +1,87 @@
+package com.example.vacation.dto;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing {@link EmployeeVacationOverviewDTO} for a growing request history,
+ * with the same ObjectMapper defaults the web layer uses.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverviewSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int historySize;
+
+    private ObjectMapper objectMapper;
+    private Employee employee;
+    private List<VacationRequest> history;
+    private EmployeeVacationOverviewDTO overview;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        employee = new Employee();
+        employee.setId(1L);
+        employee.setName("Alice Employee");
+        employee.setRole("EMPLOYEE");
+        employee.setRemainingVacationDays(12);
+
+        Employee manager = new Employee();
+        manager.setId(2L);
+        manager.setName("Bob Manager");
+
+        history = new ArrayList<>(historySize);
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(1999, 12, 1, 9, 0);
+        for (int i = 0; i < historySize; i++) {
+            VacationRequest request = new VacationRequest();
+            request.setId((long) i);
+            request.setAuthor(employee);
+            request.setVacationStartDate(day);
+            request.setVacationEndDate(day.plusDays(1));
+            request.setRequestCreatedAt(createdAt.plusHours(i));
+            if (i % 3 != 0) {
+                request.setStatus(i % 3 == 1 ? Status.APPROVED : Status.REJECTED);
+                request.setResolvedBy(manager);
+                request.setResolved(true);
+            }
+            history.add(request);
+            day = day.plusDays(3);
+        }
+        overview = buildOverview();
+    }
+
+    @Benchmark
+    public EmployeeVacationOverviewDTO buildOverview() {
+        return new EmployeeVacationOverviewDTO(
+                employee.getId(),
+                employee.getName(),
+                employee.getRole(),
+                employee.getRemainingVacationDays(),
+                history.stream().map(VacationRequestSummaryDTO::from).toList()
+        );
+    }
+
+    @Benchmark
+    public byte[] serializeOverview() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(overview);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.vacation.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The requested-days computation done by createRequest and processRequest for every request.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DayComputationBenchmark {
+
+    private static final int RANGES = 1024;
+
+    private final LocalDate[] starts = new LocalDate[RANGES];
+    private final LocalDate[] ends = new LocalDate[RANGES];
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < RANGES; i++) {
+            starts[i] = base.plusDays(random.nextInt(365));
+            ends[i] = starts[i].plusDays(random.nextInt(30));
+        }
+    }
+
+    @Benchmark
+    public int chronoUnitBetween() {
+        int i = next++ & (RANGES - 1);
+        return (int) ChronoUnit.DAYS.between(starts[i], ends[i]) + 1;
+    }
+
+    @Benchmark
+    public int epochDayDifference() {
+        int i = next++ & (RANGES - 1);
+        return (int) (ends[i].toEpochDay() - starts[i].toEpochDay()) + 1;
+    }
+}
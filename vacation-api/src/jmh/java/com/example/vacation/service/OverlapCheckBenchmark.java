@@ -0,0 +1,93 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.VacationIntervalView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The overlap check behind getOverlappingRequestsForEmployee and createRequest: filtering the
+ * employee's loaded history versus the binary search of {@link VacationRequestIntervalIndex}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlapCheckBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int historySize;
+
+    private List<VacationRequest> history;
+    private VacationRequestIntervalIndex.EmployeeIntervals intervals;
+    private LocalDate queryStart;
+    private LocalDate queryEnd;
+
+    @Setup
+    public void setup() {
+        Employee employee = new Employee();
+        employee.setId(1L);
+        employee.setName("Long Tenured");
+
+        // One-day requests every other day, every tenth one rejected
+        history = new ArrayList<>(historySize);
+        List<VacationIntervalView> views = new ArrayList<>(historySize);
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < historySize; i++) {
+            VacationRequest request = new VacationRequest();
+            request.setId((long) i);
+            request.setAuthor(employee);
+            request.setVacationStartDate(day);
+            request.setVacationEndDate(day);
+            request.setStatus(i % 10 == 0 ? Status.REJECTED : Status.APPROVED);
+            history.add(request);
+            if (request.getStatus() != Status.REJECTED) {
+                views.add(new Interval((long) i, employee.getId(), day, day));
+            }
+            day = day.plusDays(2);
+        }
+        intervals = VacationRequestIntervalIndex.EmployeeIntervals.of(views);
+
+        // Inside the history, on a gap day, so both paths have to look
+        LocalDate middle = LocalDate.of(2000, 1, 1).plusDays(historySize - 1);
+        queryStart = middle;
+        queryEnd = middle;
+    }
+
+    @Benchmark
+    public List<VacationRequest> streamFilter() {
+        return history.stream()
+                .filter(r -> r.getStatus() != Status.REJECTED)
+                .filter(r -> !(queryStart.isAfter(r.getVacationEndDate()) || queryEnd.isBefore(r.getVacationStartDate())))
+                .toList();
+    }
+
+    @Benchmark
+    public boolean intervalIndex() {
+        return intervals.overlaps(queryStart.toEpochDay(), queryEnd.toEpochDay());
+    }
+
+    private record Interval(Long id, Long authorId, LocalDate vacationStartDate, LocalDate vacationEndDate)
+            implements VacationIntervalView {
+
+        @Override
+        public Long getId() { return id; }
+
+        @Override
+        public Long getAuthorId() { return authorId; }
+
+        @Override
+        public LocalDate getVacationStartDate() { return vacationStartDate; }
+
+        @Override
+        public LocalDate getVacationEndDate() { return vacationEndDate; }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.vacation.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chargeable-day counting for ranges of growing length: the precomputed per-year bitsets of
+ * {@link WorkingDayCalendar} against a day-by-day loop. The calendar should stay flat as
+ * rangeDays grows; the loop grows linearly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkingDayCalendarBenchmark {
+
+    private static final int RANGES = 1024;
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    @Param({"5", "30", "365", "3650"})
+    public int rangeDays;
+
+    private final LocalDate[] starts = new LocalDate[RANGES];
+    private final LocalDate[] ends = new LocalDate[RANGES];
+    private Set<LocalDate> holidays;
+    private WorkingDayCalendar calendar;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        holidays = Set.of(LocalDate.of(2025, 12, 25), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 25));
+        calendar = new WorkingDayCalendar(WEEKEND, holidays);
+        for (int i = 0; i < RANGES; i++) {
+            starts[i] = base.plusDays(random.nextInt(365));
+            ends[i] = starts[i].plusDays(rangeDays - 1);
+        }
+        // Build every year's bitset up front so the measurement excludes the one-off precomputation
+        calendar.workingDaysBetween(base, base.plusDays(365 + rangeDays));
+    }
+
+    @Benchmark
+    public int bitsetCalendar() {
+        int i = next++ & (RANGES - 1);
+        return calendar.workingDaysBetween(starts[i], ends[i]);
+    }
+
+    @Benchmark
+    public int dayByDayLoop() {
+        int i = next++ & (RANGES - 1);
+        int days = 0;
+        for (LocalDate day = starts[i]; !day.isAfter(ends[i]); day = day.plusDays(1)) {
+            if (!WEEKEND.contains(day.getDayOfWeek()) && !holidays.contains(day)) {
+                days++;
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.vacation.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. Caches are backed by Caffeine and configured
+ * through the spring.cache.* properties in application.properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEE_OVERVIEW_CACHE = "employeeOverview";
+}
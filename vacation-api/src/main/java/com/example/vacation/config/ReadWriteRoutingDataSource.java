@@ -0,0 +1,26 @@
+package com.example.vacation.config;
+
+import com.example.vacation.service.ReplicaReads;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out replica connections to read-only transactions that opted in through
+ * {@link ReplicaReads}, and primary connections to everything else. The lookup happens when a
+ * connection is actually fetched, so this must sit behind a LazyConnectionDataSourceProxy: the
+ * transaction manager asks for a connection before the transaction is marked read-only.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaReads replicaReads;
+
+    ReadWriteRoutingDataSource(ReplicaReads replicaReads) {
+        this.replicaReads = replicaReads;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaReads.replicaAllowed() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
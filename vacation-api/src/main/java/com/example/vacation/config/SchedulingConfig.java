@@ -0,0 +1,13 @@
+package com.example.vacation.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the @Scheduled maintenance jobs. Each job's cron is a property; setting it to "-"
+ * disables that job.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
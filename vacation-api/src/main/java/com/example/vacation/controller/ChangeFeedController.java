@@ -0,0 +1,33 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.ChangeFeedPageDTO;
+import com.example.vacation.service.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changes", description = "Feed of vacation request changes for downstream systems")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    // GET /api/changes?after=0&limit=100&waitMs=0
+    @GetMapping
+    @Operation(
+            summary = "Read vacation request events after a sequence number",
+            description = "Returns events in sequence order; pass nextAfter as 'after' on the next call. " +
+                    "With waitMs > 0 the call waits up to that long for new events instead of returning an empty page"
+    )
+    public DeferredResult<ChangeFeedPageDTO> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") long waitMs
+    ) {
+        return changeFeed.poll(after, limit, waitMs);
+    }
+}
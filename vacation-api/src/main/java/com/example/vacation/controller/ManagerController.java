@@ -1,18 +1,41 @@
 package com.example.vacation.controller;
 
+import com.example.vacation.dto.AbsenceLedgerCheckDTO;
+import com.example.vacation.dto.BalanceResetResultDTO;
+import com.example.vacation.dto.BatchItemResultDTO;
+import com.example.vacation.dto.BulkProcessRequestDTO;
+import com.example.vacation.dto.DailyAbsenceDTO;
 import com.example.vacation.dto.UpdateVacationRequestDTO;
 import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.service.AbsenceCalendarService;
+import com.example.vacation.service.BalanceResetJob;
+import com.example.vacation.service.DailyAbsenceLedger;
+import com.example.vacation.service.EmployeeVersions;
+import com.example.vacation.service.RequestEventBroadcaster;
 import com.example.vacation.service.VacationService;
 import com.example.vacation.entity.Employee;
 import com.example.vacation.repository.EmployeeRepository;
 import com.example.vacation.exception.EmployeeNotFoundException;
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestPageDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.repository.VacationRequestRepository;
 
 
+import com.example.vacation.config.BinaryFormatsConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 
 
@@ -34,10 +57,31 @@ public class ManagerController {
     @Autowired
     private VacationRequestRepository vacationRequestRepository;
 
+    @Autowired
+    private AbsenceCalendarService absenceCalendarService;
+
+    @Autowired
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @Autowired
+    private BalanceResetJob balanceResetJob;
+
+    @Autowired
+    private RequestEventBroadcaster requestEventBroadcaster;
+
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
 
     // GET /api/manager/requests?status=pending
     @GetMapping("/requests")
-    public List<VacationRequest> getAllRequests(@RequestParam(required = false) String status) {
+    public List<VacationRequestSummaryDTO> getAllRequests(@RequestParam(required = false) String status) {
         VacationRequest.Status enumStatus = null;
         if (status != null && !status.isBlank()) {
             enumStatus = VacationRequest.Status.valueOf(status.toUpperCase());
@@ -45,6 +89,148 @@ public class ManagerController {
         return vacationService.getAllRequests(enumStatus);
     }
 
+    // GET /api/manager/requests/page?status=pending&size=50&cursor=...
+    @GetMapping("/requests/page")
+    @Operation(
+            summary = "Page through vacation requests in creation order",
+            description = "Keyset pagination; pass the returned nextCursor to fetch the following page"
+    )
+    public VacationRequestPageDTO getRequestsPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        VacationRequest.Status enumStatus = null;
+        if (status != null && !status.isBlank()) {
+            enumStatus = VacationRequest.Status.valueOf(status.toUpperCase());
+        }
+        return vacationService.getRequestsPage(enumStatus, cursor, size);
+    }
+
+    // GET /api/manager/requests/export?status=approved&from=yyyy-MM-dd&to=yyyy-MM-dd
+    @GetMapping(value = "/requests/export", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            BinaryFormatsConfig.APPLICATION_SMILE_VALUE
+    })
+    @Operation(
+            summary = "Export vacation requests as newline-delimited JSON",
+            description = "Streams all requests matching the optional status and date-range filters. " +
+                    "Accept: application/cbor or application/x-jackson-smile streams the same rows as a CBOR or " +
+                    "Smile sequence; no Accept header or a wildcard gets newline-delimited JSON"
+    )
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        VacationRequest.Status statusFilter = parseStatus(status);
+        MediaType format = exportFormat(accept);
+        StreamingResponseBody body;
+        if (format.equals(MediaType.APPLICATION_CBOR)) {
+            ObjectMapper mapper = cborConverter.getObjectMapper();
+            body = out -> vacationService.exportRequests(statusFilter, from, to, mapper, out);
+        } else if (format.equals(BinaryFormatsConfig.APPLICATION_SMILE)) {
+            ObjectMapper mapper = smileConverter.getObjectMapper();
+            body = out -> vacationService.exportRequests(statusFilter, from, to, mapper, out);
+        } else {
+            body = out -> vacationService.exportRequests(statusFilter, from, to, out);
+        }
+        return ResponseEntity.ok()
+                .contentType(format)
+                .body(body);
+    }
+
+    // Highest-quality Accept entry wins; NDJSON is checked first, so wildcards and a missing header get it
+    private static MediaType exportFormat(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_NDJSON;
+        }
+        List<MediaType> formats = List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_CBOR, BinaryFormatsConfig.APPLICATION_SMILE);
+        MediaType best = MediaType.APPLICATION_NDJSON;
+        double bestQuality = 0;
+        for (MediaType accepted : MediaType.parseMediaTypes(accept)) {
+            for (MediaType format : formats) {
+                if (accepted.isCompatibleWith(format)) {
+                    if (accepted.getQualityValue() > bestQuality) {
+                        best = format;
+                        bestQuality = accepted.getQualityValue();
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static VacationRequest.Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        return VacationRequest.Status.valueOf(status.toUpperCase());
+    }
+
+    // GET /api/manager/requests/stream
+    @GetMapping(value = "/requests/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream vacation request changes as Server-Sent Events",
+            description = "Pushes CREATED and STATUS_CHANGED events as they commit. The event id is the change feed " +
+                    "sequence; clients that fall too far behind are disconnected and can catch up from /api/changes"
+    )
+    public SseEmitter streamRequests() {
+        return requestEventBroadcaster.subscribe();
+    }
+
+    // GET /api/manager/absences/daily?from=yyyy-MM-dd&to=yyyy-MM-dd&role=engineer&includePending=true
+    @GetMapping("/absences/daily")
+    @Operation(
+            summary = "Count absent employees per day",
+            description = "Approved absences per day in the range, optionally including pending requests and filtered by role"
+    )
+    public DailyAbsenceDTO getDailyAbsences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "false") boolean includePending
+    ) {
+        return absenceCalendarService.getDailyAbsences(from, to, role, includePending);
+    }
+
+    // POST /api/manager/absences/daily/rebuild
+    @PostMapping("/absences/daily/rebuild")
+    @Operation(
+            summary = "Rebuild the daily absence table",
+            description = "Recomputes the materialized per-day approved absence counts from all approved requests"
+    )
+    public ResponseEntity<String> rebuildDailyAbsences() {
+        int days = dailyAbsenceLedger.rebuild();
+        return ResponseEntity.ok("Rebuilt daily absences for " + days + " days.");
+    }
+
+    // GET /api/manager/absences/daily/check?from=yyyy-MM-dd&to=yyyy-MM-dd
+    @GetMapping("/absences/daily/check")
+    @Operation(
+            summary = "Check the daily absence table",
+            description = "Compares the materialized counts with a recomputation from approved requests and lists differing days"
+    )
+    public AbsenceLedgerCheckDTO checkDailyAbsences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return dailyAbsenceLedger.check(from, to);
+    }
+
+    // POST /api/manager/balances/reset?year=yyyy
+    @PostMapping("/balances/reset")
+    @Operation(
+            summary = "Run the year-end vacation balance reset",
+            description = "Resets every employee to the annual allowance plus capped carry-over; resumes an interrupted run and does nothing if the year was already reset"
+    )
+    public BalanceResetResultDTO resetBalances(@RequestParam(required = false) Integer year) {
+        return balanceResetJob.run(year != null ? year : balanceResetJob.currentYear());
+    }
+
     // PUT /api/manager/requests/{id}/process
     @PutMapping("/requests/{id}/process")
     public ResponseEntity<?> processRequest(
@@ -59,6 +245,16 @@ public class ManagerController {
         }
     }
     
+    // PUT /api/manager/requests/process
+    @PutMapping("/requests/process")
+    @Operation(
+            summary = "Approve or reject many vacation requests at once",
+            description = "Applies the decisions in order in a single transaction and reports the outcome of each one"
+    )
+    public ResponseEntity<List<BatchItemResultDTO>> processRequests(@Valid @RequestBody BulkProcessRequestDTO dto) {
+        return ResponseEntity.ok(vacationService.processRequests(dto));
+    }
+
     @GetMapping("/employee/{employeeId}/overlaps")
     public ResponseEntity<?> getOverlappingRequests(
             @PathVariable Long employeeId,
@@ -78,24 +274,7 @@ public class ManagerController {
     }
     
     public EmployeeVacationOverviewDTO getEmployeeVacationOverview(Long employeeId, VacationRequest.Status statusFilter) {
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-
-        List<VacationRequest> requests = vacationRequestRepository.findByAuthorId(employeeId);
-
-        if (statusFilter != null) {
-            requests = requests.stream()
-                    .filter(r -> r.getStatus() == statusFilter)
-                    .toList();
-        }
-
-        return new EmployeeVacationOverviewDTO(
-                employee.getId(),
-                employee.getName(),
-                employee.getRole(),
-                employee.getRemainingVacationDays(),
-                requests
-        );
+        return vacationService.getEmployeeVacationOverview(employeeId, statusFilter);
     }
 
     public ManagerController(VacationService vacationService) {
@@ -106,9 +285,20 @@ public class ManagerController {
     @Operation(summary = "Get detailed vacation overview for an employee")
     public EmployeeVacationOverviewDTO getEmployeeOverview(
             @PathVariable("id") Long employeeId,
-            @RequestParam(value = "status", required = false) VacationRequest.Status status
+            @RequestParam(value = "status", required = false) VacationRequest.Status status,
+            WebRequest webRequest
     ) {
-        return vacationService.getEmployeeVacationOverview(employeeId, status);
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        String current = employeeVersions.etag(employeeId, accept);
+        if (current.equals(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH)) && webRequest.checkNotModified(current)) {
+            return null;
+        }
+        EmployeeVacationOverviewDTO overview = vacationService.getEmployeeVacationOverview(employeeId, status);
+        // Tagged with the version the overview was built from, which a cached copy may trail
+        if (webRequest.checkNotModified(employeeVersions.etag(employeeId, overview, accept))) {
+            return null;
+        }
+        return overview;
     }
   
 
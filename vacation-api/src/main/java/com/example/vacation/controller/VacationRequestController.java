@@ -1,18 +1,25 @@
 package com.example.vacation.controller;
 
+import com.example.vacation.dto.BatchItemResultDTO;
 import com.example.vacation.dto.CreateVacationRequestDTO;
 import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.entity.Employee;
+import com.example.vacation.service.EmployeeVersions;
 import com.example.vacation.service.VacationService;
 import com.example.vacation.repository.EmployeeRepository;
 import com.example.vacation.exception.EmployeeNotFoundException;
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -31,12 +38,19 @@ public class VacationRequestController {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
     // GET /api/employee/{employeeId}/requests
     @GetMapping("/{employeeId}/requests")
-    public List<VacationRequest> getEmployeeRequests(
+    public List<VacationRequestSummaryDTO> getEmployeeRequests(
             @PathVariable Long employeeId,
-            @RequestParam(required = false) String status
+            @RequestParam(required = false) String status,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(employeeVersions.etag(employeeId, webRequest.getHeader(HttpHeaders.ACCEPT)))) {
+            return null;
+        }
         VacationRequest.Status enumStatus = null;
         if (status != null && !status.isBlank()) {
             enumStatus = VacationRequest.Status.valueOf(status.toUpperCase());
@@ -55,6 +69,19 @@ public class VacationRequestController {
         }
     }
 
+    // POST /api/employee/requests/batch
+    @PostMapping("/requests/batch")
+    @Operation(
+            summary = "Create many vacation requests at once",
+            description = "Validates every item (including overlaps within the batch), inserts the valid ones " +
+                    "in a single transaction and reports the outcome of each item"
+    )
+    public ResponseEntity<List<BatchItemResultDTO>> createRequests(
+            @RequestBody @NotEmpty List<@NotNull @Valid CreateVacationRequestDTO> dtos
+    ) {
+        return ResponseEntity.ok(vacationService.createRequests(dtos));
+    }
+
     // GET /api/employee/{employeeId}/overlaps?start=yyyy-MM-dd&end=yyyy-MM-dd
     @GetMapping("/{employeeId}/overlaps")
     @Operation(
@@ -94,10 +121,29 @@ public class VacationRequestController {
     @GetMapping("/{employeeId}/overview")
     @Operation(
             summary = "Get detailed vacation overview for a single employee",
-            description = "Includes employee info, remaining vacation days, and all requests grouped by status"
+            description = "Includes employee info, remaining vacation days, and all requests grouped by status, " +
+                    "optionally only those with the given status"
     )
-    public ResponseEntity<EmployeeVacationOverviewDTO> getEmployeeOverview(@PathVariable Long employeeId) {
-        EmployeeVacationOverviewDTO overview = vacationService.getEmployeeVacationOverview(employeeId, null);
+    public ResponseEntity<EmployeeVacationOverviewDTO> getEmployeeOverview(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) String status,
+            WebRequest webRequest
+    ) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        // 304 straight from the in-memory version counter, before the cache or the database
+        String current = employeeVersions.etag(employeeId, accept);
+        if (current.equals(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH)) && webRequest.checkNotModified(current)) {
+            return null;
+        }
+        VacationRequest.Status enumStatus = null;
+        if (status != null && !status.isBlank()) {
+            enumStatus = VacationRequest.Status.valueOf(status.toUpperCase());
+        }
+        EmployeeVacationOverviewDTO overview = vacationService.getEmployeeVacationOverview(employeeId, enumStatus);
+        // Tagged with the version the overview was built from, which a cached copy may trail
+        if (webRequest.checkNotModified(employeeVersions.etag(employeeId, overview, accept))) {
+            return null;
+        }
         return ResponseEntity.ok(overview);
     }
 
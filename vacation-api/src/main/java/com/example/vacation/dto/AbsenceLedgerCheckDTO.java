@@ -0,0 +1,43 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Result of comparing the daily absence table with the vacation requests")
+public class AbsenceLedgerCheckDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+
+    @Schema(description = "Number of days compared")
+    private int checkedDays;
+
+    @Schema(description = "Days whose stored count is wrong; empty when the table is consistent")
+    private List<AbsenceMismatchDTO> mismatches;
+
+    public AbsenceLedgerCheckDTO() {}
+
+    public AbsenceLedgerCheckDTO(LocalDate from, LocalDate to, int checkedDays, List<AbsenceMismatchDTO> mismatches) {
+        this.from = from;
+        this.to = to;
+        this.checkedDays = checkedDays;
+        this.mismatches = mismatches;
+    }
+
+    @Schema(description = "True when no mismatches were found")
+    public boolean isConsistent() { return mismatches.isEmpty(); }
+
+    // Getters and setters
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public int getCheckedDays() { return checkedDays; }
+    public void setCheckedDays(int checkedDays) { this.checkedDays = checkedDays; }
+
+    public List<AbsenceMismatchDTO> getMismatches() { return mismatches; }
+    public void setMismatches(List<AbsenceMismatchDTO> mismatches) { this.mismatches = mismatches; }
+}
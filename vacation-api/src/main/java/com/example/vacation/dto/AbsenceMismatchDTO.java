@@ -0,0 +1,34 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(description = "A day whose materialized absence count differs from the recomputed one")
+public class AbsenceMismatchDTO {
+
+    private LocalDate date;
+
+    @Schema(description = "Count in the daily absence table")
+    private int stored;
+
+    @Schema(description = "Count recomputed from approved vacation requests")
+    private int expected;
+
+    public AbsenceMismatchDTO() {}
+
+    public AbsenceMismatchDTO(LocalDate date, int stored, int expected) {
+        this.date = date;
+        this.stored = stored;
+        this.expected = expected;
+    }
+
+    // Getters and setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public int getStored() { return stored; }
+    public void setStored(int stored) { this.stored = stored; }
+
+    public int getExpected() { return expected; }
+    public void setExpected(int expected) { this.expected = expected; }
+}
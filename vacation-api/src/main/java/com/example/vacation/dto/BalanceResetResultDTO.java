@@ -0,0 +1,55 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a year-end vacation balance reset run")
+public class BalanceResetResultDTO {
+
+    @Schema(description = "Year whose balances were reset", example = "2026")
+    private int year;
+
+    @Schema(description = "Employees updated by this run")
+    private int updated;
+
+    @Schema(description = "Employees updated for this year in total, including earlier interrupted runs")
+    private int totalProcessed;
+
+    @Schema(description = "Number of chunks committed by this run")
+    private int chunks;
+
+    @Schema(description = "True when this run continued from a checkpoint left by an interrupted run")
+    private boolean resumed;
+
+    @Schema(description = "True when the reset had already completed for this year and nothing was changed")
+    private boolean alreadyCompleted;
+
+    public BalanceResetResultDTO() {}
+
+    public BalanceResetResultDTO(int year, int updated, int totalProcessed, int chunks, boolean resumed, boolean alreadyCompleted) {
+        this.year = year;
+        this.updated = updated;
+        this.totalProcessed = totalProcessed;
+        this.chunks = chunks;
+        this.resumed = resumed;
+        this.alreadyCompleted = alreadyCompleted;
+    }
+
+    // Getters and setters
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getTotalProcessed() { return totalProcessed; }
+    public void setTotalProcessed(int totalProcessed) { this.totalProcessed = totalProcessed; }
+
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+
+    public boolean isResumed() { return resumed; }
+    public void setResumed(boolean resumed) { this.resumed = resumed; }
+
+    public boolean isAlreadyCompleted() { return alreadyCompleted; }
+    public void setAlreadyCompleted(boolean alreadyCompleted) { this.alreadyCompleted = alreadyCompleted; }
+}
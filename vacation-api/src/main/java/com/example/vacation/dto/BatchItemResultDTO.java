@@ -0,0 +1,49 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one item of a batch operation")
+public class BatchItemResultDTO {
+
+    @Schema(description = "Position of the item in the submitted list", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the item was applied")
+    private boolean success;
+
+    @Schema(description = "ID of the vacation request the item created or processed", example = "42")
+    private Long requestId;
+
+    @Schema(description = "Reason the item was not applied; null on success")
+    private String error;
+
+    public BatchItemResultDTO() {}
+
+    public BatchItemResultDTO(int index, boolean success, Long requestId, String error) {
+        this.index = index;
+        this.success = success;
+        this.requestId = requestId;
+        this.error = error;
+    }
+
+    public static BatchItemResultDTO succeeded(int index, Long requestId) {
+        return new BatchItemResultDTO(index, true, requestId, null);
+    }
+
+    public static BatchItemResultDTO failed(int index, Long requestId, String error) {
+        return new BatchItemResultDTO(index, false, requestId, error);
+    }
+
+    // Getters and setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public Long getRequestId() { return requestId; }
+    public void setRequestId(Long requestId) { this.requestId = requestId; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,26 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@Schema(description = "DTO for approving/rejecting many vacation requests at once")
+public class BulkProcessRequestDTO {
+
+    @Schema(description = "ID of the manager processing the requests", example = "2", required = true)
+    @NotNull
+    private Long managerId;
+
+    @Schema(description = "Decisions, applied in order", required = true)
+    @NotNull
+    private List<@NotNull @Valid ProcessDecisionDTO> decisions;
+
+    // Getters and setters
+    public Long getManagerId() { return managerId; }
+    public void setManagerId(Long managerId) { this.managerId = managerId; }
+
+    public List<ProcessDecisionDTO> getDecisions() { return decisions; }
+    public void setDecisions(List<ProcessDecisionDTO> decisions) { this.decisions = decisions; }
+}
@@ -0,0 +1,36 @@
+package com.example.vacation.dto;
+
+import com.example.vacation.entity.VacationRequestEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "A batch of vacation request events from the change feed")
+public class ChangeFeedPageDTO {
+
+    @Schema(description = "Sequence the batch was read after", example = "0")
+    private long after;
+
+    @Schema(description = "Pass as 'after' on the next call; equals 'after' when no events were returned", example = "42")
+    private long nextAfter;
+
+    @Schema(description = "Events in sequence order")
+    private List<VacationRequestEvent> events;
+
+    public ChangeFeedPageDTO() {}
+
+    public ChangeFeedPageDTO(long after, long nextAfter, List<VacationRequestEvent> events) {
+        this.after = after;
+        this.nextAfter = nextAfter;
+        this.events = events;
+    }
+
+    // Getters and setters
+    public long getAfter() { return after; }
+    public void setAfter(long after) { this.after = after; }
+
+    public long getNextAfter() { return nextAfter; }
+    public void setNextAfter(long nextAfter) { this.nextAfter = nextAfter; }
+
+    public List<VacationRequestEvent> getEvents() { return events; }
+    public void setEvents(List<VacationRequestEvent> events) { this.events = events; }
+}
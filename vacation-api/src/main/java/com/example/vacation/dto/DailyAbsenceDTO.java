@@ -0,0 +1,50 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Per-day absence counts over a date range")
+public class DailyAbsenceDTO {
+
+    @Schema(description = "First day of the range (inclusive)")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the range (inclusive)")
+    private LocalDate to;
+
+    @Schema(description = "Role filter; null when all roles are counted")
+    private String role;
+
+    @Schema(description = "Whether pending requests are counted alongside approved ones")
+    private boolean includePending;
+
+    @Schema(description = "One entry per day from 'from' to 'to'")
+    private List<DayAbsenceDTO> days;
+
+    public DailyAbsenceDTO() {}
+
+    public DailyAbsenceDTO(LocalDate from, LocalDate to, String role, boolean includePending, List<DayAbsenceDTO> days) {
+        this.from = from;
+        this.to = to;
+        this.role = role;
+        this.includePending = includePending;
+        this.days = days;
+    }
+
+    // Getters and setters
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public boolean isIncludePending() { return includePending; }
+    public void setIncludePending(boolean includePending) { this.includePending = includePending; }
+
+    public List<DayAbsenceDTO> getDays() { return days; }
+    public void setDays(List<DayAbsenceDTO> days) { this.days = days; }
+}
@@ -0,0 +1,28 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(description = "Number of employees absent on one day")
+public class DayAbsenceDTO {
+
+    @Schema(description = "Calendar day", example = "2025-09-01")
+    private LocalDate date;
+
+    @Schema(description = "Employees with a matching request covering this day", example = "3")
+    private int absent;
+
+    public DayAbsenceDTO() {}
+
+    public DayAbsenceDTO(LocalDate date, int absent) {
+        this.date = date;
+        this.absent = absent;
+    }
+
+    // Getters and setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public int getAbsent() { return absent; }
+    public void setAbsent(int absent) { this.absent = absent; }
+}
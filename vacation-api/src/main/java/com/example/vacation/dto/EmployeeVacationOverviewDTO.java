@@ -1,6 +1,7 @@
 package com.example.vacation.dto;
 
-import com.example.vacation.entity.VacationRequest;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
 public class EmployeeVacationOverviewDTO {
@@ -11,10 +12,16 @@ public class EmployeeVacationOverviewDTO {
     private String name;
     private String role; // optional, can be null
     private int remainingVacationDays;
-    private List<VacationRequest> vacationRequests;
+    private List<VacationRequestSummaryDTO> vacationRequests;
+    // Employee version the overview was built from; the ETag is derived from it, not sent in the body
+    @JsonIgnore
+    private Long version;
+
+    public EmployeeVacationOverviewDTO() {
+    }
 
     public EmployeeVacationOverviewDTO(Long employeeId, String name, String role,
-                                      int remainingVacationDays, List<VacationRequest> vacationRequests) {
+                                      int remainingVacationDays, List<VacationRequestSummaryDTO> vacationRequests) {
         this.employeeId = employeeId;
         this.name = name;
         this.role = role;
@@ -35,6 +42,10 @@ public class EmployeeVacationOverviewDTO {
     public int getRemainingVacationDays() { return remainingVacationDays; }
     public void setRemainingVacationDays(int remainingVacationDays) { this.remainingVacationDays = remainingVacationDays; }
 
-    public List<VacationRequest> getVacationRequests() { return vacationRequests; }
-    public void setVacationRequests(List<VacationRequest> vacationRequests) { this.vacationRequests = vacationRequests; }
+    public List<VacationRequestSummaryDTO> getVacationRequests() { return vacationRequests; }
+    public void setVacationRequests(List<VacationRequestSummaryDTO> vacationRequests) { this.vacationRequests = vacationRequests; }
+
+    @JsonIgnore
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
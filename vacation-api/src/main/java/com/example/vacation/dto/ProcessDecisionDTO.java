@@ -0,0 +1,27 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A single approve/reject decision within a bulk process call")
+public class ProcessDecisionDTO {
+
+    @Schema(description = "ID of the vacation request to process", example = "42", required = true)
+    private Long requestId;
+
+    @Schema(description = "New status of the vacation request", example = "APPROVED", allowableValues = {"PENDING","APPROVED","REJECTED"}, required = true)
+    private String status;
+
+    public ProcessDecisionDTO() {}
+
+    public ProcessDecisionDTO(Long requestId, String status) {
+        this.requestId = requestId;
+        this.status = status;
+    }
+
+    // Getters and setters
+    public Long getRequestId() { return requestId; }
+    public void setRequestId(Long requestId) { this.requestId = requestId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
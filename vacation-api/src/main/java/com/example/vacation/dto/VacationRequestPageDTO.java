@@ -0,0 +1,28 @@
+package com.example.vacation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "One page of vacation requests in creation order")
+public class VacationRequestPageDTO {
+
+    @Schema(description = "Requests on this page")
+    private List<VacationRequestSummaryDTO> items;
+
+    @Schema(description = "Opaque token for the next page; null when this is the last page")
+    private String nextCursor;
+
+    public VacationRequestPageDTO() {}
+
+    public VacationRequestPageDTO(List<VacationRequestSummaryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<VacationRequestSummaryDTO> getItems() { return items; }
+    public void setItems(List<VacationRequestSummaryDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,80 @@
+package com.example.vacation.dto;
+
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "Flat view of a vacation request used by list endpoints")
+public class VacationRequestSummaryDTO {
+
+    private Long id;
+    private Long authorId;
+    private String authorName;
+    private Long resolvedById;
+    private LocalDate vacationStartDate;
+    private LocalDate vacationEndDate;
+    private Status status;
+    private boolean resolved;
+    private LocalDateTime requestCreatedAt;
+
+    public VacationRequestSummaryDTO() {}
+
+    public VacationRequestSummaryDTO(Long id, Long authorId, String authorName, Long resolvedById,
+                                     LocalDate vacationStartDate, LocalDate vacationEndDate,
+                                     Status status, boolean resolved, LocalDateTime requestCreatedAt) {
+        this.id = id;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.resolvedById = resolvedById;
+        this.vacationStartDate = vacationStartDate;
+        this.vacationEndDate = vacationEndDate;
+        this.status = status;
+        this.resolved = resolved;
+        this.requestCreatedAt = requestCreatedAt;
+    }
+
+    public static VacationRequestSummaryDTO from(VacationRequest request) {
+        return new VacationRequestSummaryDTO(
+                request.getId(),
+                request.getAuthor() != null ? request.getAuthor().getId() : null,
+                request.getAuthor() != null ? request.getAuthor().getName() : null,
+                request.getResolvedBy() != null ? request.getResolvedBy().getId() : null,
+                request.getVacationStartDate(),
+                request.getVacationEndDate(),
+                request.getStatus(),
+                request.isResolved(),
+                request.getRequestCreatedAt()
+        );
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public String getAuthorName() { return authorName; }
+    public void setAuthorName(String authorName) { this.authorName = authorName; }
+
+    public Long getResolvedById() { return resolvedById; }
+    public void setResolvedById(Long resolvedById) { this.resolvedById = resolvedById; }
+
+    public LocalDate getVacationStartDate() { return vacationStartDate; }
+    public void setVacationStartDate(LocalDate vacationStartDate) { this.vacationStartDate = vacationStartDate; }
+
+    public LocalDate getVacationEndDate() { return vacationEndDate; }
+    public void setVacationEndDate(LocalDate vacationEndDate) { this.vacationEndDate = vacationEndDate; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public boolean isResolved() { return resolved; }
+    public void setResolved(boolean resolved) { this.resolved = resolved; }
+
+    public LocalDateTime getRequestCreatedAt() { return requestCreatedAt; }
+    public void setRequestCreatedAt(LocalDateTime requestCreatedAt) { this.requestCreatedAt = requestCreatedAt; }
+}
@@ -0,0 +1,34 @@
+package com.example.vacation.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * The single row holding the last sequence handed out by the change feed. Writers advance it
+ * right before they commit, so its row lock orders them across every instance sharing the
+ * database, and its committed value is how far readers may go.
+ */
+@Entity
+@Table(name = "change_feed_head")
+public class ChangeFeedHead {
+
+    public static final long ID = 1;
+
+    @Id
+    private Long id;
+
+    private long lastSequence;
+
+    public ChangeFeedHead() {}
+
+    public ChangeFeedHead(long lastSequence) {
+        this.id = ID;
+        this.lastSequence = lastSequence;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public long getLastSequence() { return lastSequence; }
+    public void setLastSequence(long lastSequence) { this.lastSequence = lastSequence; }
+}
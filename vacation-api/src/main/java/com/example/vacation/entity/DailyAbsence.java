@@ -0,0 +1,50 @@
+package com.example.vacation.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDate;
+
+/**
+ * Materialized number of approved absences per calendar day. Maintained incrementally by the
+ * approval path and rebuilt from {@link VacationRequest} on demand; rows exist for every day
+ * of each year that has seen an approval.
+ */
+@Entity
+@Table(name = "daily_absence")
+public class DailyAbsence implements Persistable<LocalDate> {
+
+    @Id
+    private LocalDate absenceDate;
+
+    private int approvedCount;
+
+    // The id is assigned, so tell Spring Data which rows are new instead of letting save() select first
+    @Transient
+    private boolean isNew = true;
+
+    public DailyAbsence() {}
+
+    public DailyAbsence(LocalDate absenceDate, int approvedCount) {
+        this.absenceDate = absenceDate;
+        this.approvedCount = approvedCount;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public LocalDate getId() { return absenceDate; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    // Getters and Setters
+    public LocalDate getAbsenceDate() { return absenceDate; }
+    public void setAbsenceDate(LocalDate absenceDate) { this.absenceDate = absenceDate; }
+
+    public int getApprovedCount() { return approvedCount; }
+    public void setApprovedCount(int approvedCount) { this.approvedCount = approvedCount; }
+}
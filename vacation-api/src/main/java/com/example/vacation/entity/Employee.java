@@ -1,10 +1,17 @@
 package com.example.vacation.entity;
 
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // lazy proxies from VacationRequest
 @Schema(description = "Represents an employee in the system")
 public class Employee {
 
@@ -22,7 +29,15 @@ public class Employee {
     @Schema(description = "Remaining vacation days for the employee in the current year", example = "30")
     private int remainingVacationDays = 30;
 
+    // Guards remainingVacationDays against lost updates from concurrent approvals
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    @Schema(description = "Optimistic-locking version", example = "0")
+    private long version;
+
+    // Lazy and bidirectional: serializing it would recurse through every request
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+    @JsonIgnore
     @Schema(description = "List of vacation requests submitted by the employee")
     private List<VacationRequest> requests;
 
@@ -49,6 +64,8 @@ public class Employee {
     public void setRemainingVacationDays(int days) { this.remainingVacationDays = days; }
     public List<VacationRequest> getRequests() { return requests; }
     public void setRequests(List<VacationRequest> requests) { this.requests = requests; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
 }
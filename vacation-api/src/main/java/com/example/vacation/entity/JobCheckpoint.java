@@ -0,0 +1,62 @@
+package com.example.vacation.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a restartable batch job, committed together with each chunk it processes. A job
+ * that stops mid-run picks up after {@code lastProcessedId} the next time it runs for the same
+ * period.
+ */
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    public enum State {
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    private String jobName;
+
+    // The period the progress belongs to, e.g. the year of a balance reset
+    private int runPeriod;
+
+    private long lastProcessedId;
+
+    private int processedCount;
+
+    @Enumerated(EnumType.STRING)
+    private State state;
+
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint() {}
+
+    public JobCheckpoint(String jobName, int runPeriod) {
+        this.jobName = jobName;
+        this.runPeriod = runPeriod;
+        this.state = State.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public int getRunPeriod() { return runPeriod; }
+    public void setRunPeriod(int runPeriod) { this.runPeriod = runPeriod; }
+
+    public long getLastProcessedId() { return lastProcessedId; }
+    public void setLastProcessedId(long lastProcessedId) { this.lastProcessedId = lastProcessedId; }
+
+    public int getProcessedCount() { return processedCount; }
+    public void setProcessedCount(int processedCount) { this.processedCount = processedCount; }
+
+    public State getState() { return state; }
+    public void setState(State state) { this.state = state; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
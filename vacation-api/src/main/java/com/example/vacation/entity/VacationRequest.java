@@ -5,6 +5,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_vacation_request_author_dates",
+               columnList = "author_id, vacation_start_date, vacation_end_date"),
+        @Index(name = "idx_vacation_request_created",
+               columnList = "request_created_at, id"),
+        @Index(name = "idx_vacation_request_status_created",
+               columnList = "status, request_created_at, id")
+})
 public class VacationRequest {
 
     public enum Status {
@@ -13,14 +21,21 @@ public class VacationRequest {
         REJECTED
     }
 
+    // Sequence with a pooled optimizer (allocationSize > 1) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacation_request_seq")
+    @SequenceGenerator(name = "vacation_request_seq", sequenceName = "vacation_request_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
+    // Lazy; repository methods that hand entities out fetch both with an entity graph
+    @ManyToOne(fetch = FetchType.LAZY)
     private Employee author;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Employee resolvedBy; // manager who approves/rejects
 
     private LocalDate vacationStartDate;
@@ -37,6 +52,9 @@ public class VacationRequest {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
     public Employee getAuthor() { return author; }
     public void setAuthor(Employee author) { this.author = author; }
 
@@ -0,0 +1,106 @@
+package com.example.vacation.entity;
+
+import com.example.vacation.entity.VacationRequest.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row describing one change to a vacation request. Written in the same transaction as the
+ * change itself, so the change feed never shows an event whose change rolled back and never misses
+ * one that committed.
+ */
+@Entity
+@Table(name = "vacation_request_event", indexes = {
+        @Index(name = "idx_vacation_request_event_occurred", columnList = "occurred_at")
+})
+@Schema(description = "A change to a vacation request, as published on the change feed")
+public class VacationRequestEvent implements Persistable<Long> {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+
+    // Assigned by ChangeFeed when the transaction commits, in commit order
+    @Id
+    @Schema(description = "Position of the event in the feed; strictly increasing", example = "42")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Schema(description = "What happened to the request", example = "STATUS_CHANGED")
+    private Type type;
+
+    @Schema(description = "ID of the vacation request", example = "7")
+    private Long requestId;
+
+    @Schema(description = "ID of the employee who authored the request", example = "1")
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Schema(description = "Status of the request after the change", example = "APPROVED")
+    private Status status;
+
+    private LocalDate vacationStartDate;
+    private LocalDate vacationEndDate;
+
+    @Schema(description = "When the change was made")
+    private LocalDateTime occurredAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public VacationRequestEvent() {}
+
+    public VacationRequestEvent(Type type, VacationRequest request) {
+        this.type = type;
+        this.requestId = request.getId();
+        this.employeeId = request.getAuthor().getId();
+        this.status = request.getStatus();
+        this.vacationStartDate = request.getVacationStartDate();
+        this.vacationEndDate = request.getVacationEndDate();
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    @JsonIgnore
+    public Long getId() { return sequence; }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() { return isNew; }
+
+    // Getters and Setters
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public Long getRequestId() { return requestId; }
+    public void setRequestId(Long requestId) { this.requestId = requestId; }
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public LocalDate getVacationStartDate() { return vacationStartDate; }
+    public void setVacationStartDate(LocalDate vacationStartDate) { this.vacationStartDate = vacationStartDate; }
+
+    public LocalDate getVacationEndDate() { return vacationEndDate; }
+    public void setVacationEndDate(LocalDate vacationEndDate) { this.vacationEndDate = vacationEndDate; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,8 @@
+package com.example.vacation.exception;
+
+public class JobAlreadyRunningException extends RuntimeException {
+
+    public JobAlreadyRunningException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.vacation.repository;
+
+import com.example.vacation.entity.ChangeFeedHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChangeFeedHeadRepository extends JpaRepository<ChangeFeedHead, Long> {
+
+    // Takes the head row's lock until the surrounding transaction ends
+    @Modifying
+    @Query("update ChangeFeedHead h set h.lastSequence = h.lastSequence + :count where h.id = " + ChangeFeedHead.ID)
+    int advance(@Param("count") long count);
+
+    @Query("select h.lastSequence from ChangeFeedHead h where h.id = " + ChangeFeedHead.ID)
+    Optional<Long> findLastSequence();
+}
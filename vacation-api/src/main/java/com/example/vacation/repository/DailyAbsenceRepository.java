@@ -0,0 +1,25 @@
+package com.example.vacation.repository;
+
+import com.example.vacation.entity.DailyAbsence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyAbsenceRepository extends JpaRepository<DailyAbsence, LocalDate> {
+
+    // Primary-key range scan
+    List<DailyAbsence> findByAbsenceDateBetweenOrderByAbsenceDate(LocalDate from, LocalDate to);
+
+    @Query("select d.absenceDate from DailyAbsence d where d.absenceDate between :from and :to")
+    List<LocalDate> findDatesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Relative update, so concurrent approvals on the same days serialize on the row locks instead of losing counts
+    @Modifying
+    @Query("update DailyAbsence d set d.approvedCount = d.approvedCount + :delta " +
+           "where d.absenceDate between :from and :to")
+    int adjust(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("delta") int delta);
+}
@@ -1,7 +1,17 @@
 package com.example.vacation.repository;
 
 import com.example.vacation.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    // Employee rows are read-mostly; cache the id lists, the entities come from the second-level cache
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findAllById(Iterable<Long> ids);
 }
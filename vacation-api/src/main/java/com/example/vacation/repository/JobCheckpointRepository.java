@@ -0,0 +1,7 @@
+package com.example.vacation.repository;
+
+import com.example.vacation.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
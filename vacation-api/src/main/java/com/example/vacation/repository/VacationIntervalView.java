@@ -0,0 +1,18 @@
+package com.example.vacation.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Minimal projection of a vacation request used to build the overlap index
+ * without materializing full entities.
+ */
+public interface VacationIntervalView {
+
+    Long getId();
+
+    Long getAuthorId();
+
+    LocalDate getVacationStartDate();
+
+    LocalDate getVacationEndDate();
+}
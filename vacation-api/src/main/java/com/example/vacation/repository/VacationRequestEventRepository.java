@@ -0,0 +1,27 @@
+package com.example.vacation.repository;
+
+import com.example.vacation.entity.VacationRequestEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface VacationRequestEventRepository extends JpaRepository<VacationRequestEvent, Long> {
+
+    // Primary-key range scan; upTo is the committed head, so a page never runs past it
+    @Query("select e from VacationRequestEvent e where e.sequence > :after and e.sequence <= :upTo order by e.sequence")
+    List<VacationRequestEvent> findRange(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    @Query("select coalesce(max(e.sequence), 0) from VacationRequestEvent e")
+    long findMaxSequence();
+
+    // Always keeps the newest event, so sequences continue from it after a restart
+    @Modifying
+    @Query("delete from VacationRequestEvent e where e.occurredAt < :cutoff " +
+           "and e.sequence < (select max(x.sequence) from VacationRequestEvent x)")
+    int deleteOccurredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,19 +1,158 @@
 package com.example.vacation.repository;
 
 
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.entity.Employee;
 import com.example.vacation.entity.VacationRequest.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long> {
 
+    // Flat projection for list endpoints: no entities, no extra selects for author/resolver
+    String SUMMARY_SELECT = "select new com.example.vacation.dto.VacationRequestSummaryDTO(" +
+            "r.id, a.id, a.name, rb.id, r.vacationStartDate, r.vacationEndDate, r.status, r.resolved, " +
+            "r.requestCreatedAt) from VacationRequest r join r.author a left join r.resolvedBy rb ";
+
+    // author and resolvedBy are lazy; everything below that returns entities fetches them in the same select
+    @Override
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
+    Optional<VacationRequest> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
+    List<VacationRequest> findAll();
+
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
     List<VacationRequest> findByAuthorId(Long authorId);
-    
+
+    // One bulk delete, without loading the requests; bypasses the persistence context
+    @Modifying
+    @Transactional
+    @Query("delete from VacationRequest r where r.author.id = :authorId")
+    int deleteAllByAuthorIdInBulk(@Param("authorId") Long authorId);
+
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
     List<VacationRequest> findByAuthor(Employee author);
 
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
     List<VacationRequest> findByAuthorIdAndStatus(Long authorId, Status status);
 
+    @EntityGraph(attributePaths = {"author", "resolvedBy"})
     List<VacationRequest> findByStatus(Status status);
+
+    @Query(SUMMARY_SELECT + "order by r.id")
+    List<VacationRequestSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "where r.status = :status order by r.id")
+    List<VacationRequestSummaryDTO> findSummariesByStatus(@Param("status") Status status);
+
+    @Query(SUMMARY_SELECT + "where a.id = :authorId order by r.id")
+    List<VacationRequestSummaryDTO> findSummariesByAuthorId(@Param("authorId") Long authorId);
+
+    @Query(SUMMARY_SELECT + "where a.id = :authorId and r.status = :status order by r.id")
+    List<VacationRequestSummaryDTO> findSummariesByAuthorIdAndStatus(@Param("authorId") Long authorId,
+                                                                     @Param("status") Status status);
+
+    // Existence probe served by the (author_id, vacation_start_date, vacation_end_date) index
+    boolean existsByAuthorIdAndStatusNotAndVacationStartDateLessThanEqualAndVacationEndDateGreaterThanEqual(
+            Long authorId, Status status, LocalDate endDate, LocalDate startDate);
+
+    /**
+     * Returns true if the employee has a non-rejected request overlapping [startDate, endDate].
+     */
+    default boolean existsOverlapping(Long authorId, LocalDate startDate, LocalDate endDate) {
+        return existsByAuthorIdAndStatusNotAndVacationStartDateLessThanEqualAndVacationEndDateGreaterThanEqual(
+                authorId, Status.REJECTED, endDate, startDate);
+    }
+
+    @Query("select r from VacationRequest r join fetch r.author left join fetch r.resolvedBy " +
+           "where r.author.id = :authorId and r.status <> :excluded " +
+           "and r.vacationStartDate <= :endDate and r.vacationEndDate >= :startDate")
+    List<VacationRequest> findOverlapping(@Param("authorId") Long authorId,
+                                          @Param("excluded") Status excluded,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query("select r.author.id from VacationRequest r where r.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    @Query("select distinct r.author.id from VacationRequest r where r.id in :ids")
+    List<Long> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select r from VacationRequest r join fetch r.author where r.id in :ids")
+    List<VacationRequest> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Date intervals only, used to (re)build the in-memory overlap index
+    @Query("select r.id as id, r.author.id as authorId, r.vacationStartDate as vacationStartDate, " +
+           "r.vacationEndDate as vacationEndDate from VacationRequest r " +
+           "where r.author.id = :authorId and r.status <> :excluded")
+    List<VacationIntervalView> findIntervalsByAuthorId(@Param("authorId") Long authorId,
+                                                       @Param("excluded") Status excluded);
+
+    @Query("select r.id as id, r.author.id as authorId, r.vacationStartDate as vacationStartDate, " +
+           "r.vacationEndDate as vacationEndDate from VacationRequest r where r.status <> :excluded")
+    List<VacationIntervalView> findAllIntervals(@Param("excluded") Status excluded);
+
+    @Query("select r.id as id, r.author.id as authorId, r.vacationStartDate as vacationStartDate, " +
+           "r.vacationEndDate as vacationEndDate from VacationRequest r where r.status = :status")
+    List<VacationIntervalView> findIntervalsByStatus(@Param("status") Status status);
+
+    // Date ranges of the requests touching [from, to], for the absence calendar
+    @Query("select r.id as id, a.id as authorId, r.vacationStartDate as vacationStartDate, " +
+           "r.vacationEndDate as vacationEndDate from VacationRequest r join r.author a " +
+           "where r.status in :statuses and r.vacationStartDate <= :to and r.vacationEndDate >= :from " +
+           "and (:role is null or a.role = :role)")
+    List<VacationIntervalView> findIntervalsBetween(@Param("statuses") Collection<Status> statuses,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    @Param("role") String role);
+
+    // Keyset pagination on (requestCreatedAt, id); the Pageable only carries the limit
+    @Query(SUMMARY_SELECT + "order by r.requestCreatedAt, r.id")
+    List<VacationRequestSummaryDTO> findPage(Pageable limit);
+
+    @Query(SUMMARY_SELECT +
+           "where r.requestCreatedAt > :createdAt or (r.requestCreatedAt = :createdAt and r.id > :id) " +
+           "order by r.requestCreatedAt, r.id")
+    List<VacationRequestSummaryDTO> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable limit);
+
+    @Query(SUMMARY_SELECT + "where r.status = :status order by r.requestCreatedAt, r.id")
+    List<VacationRequestSummaryDTO> findPageByStatus(@Param("status") Status status, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "where r.status = :status " +
+           "and (r.requestCreatedAt > :createdAt or (r.requestCreatedAt = :createdAt and r.id > :id)) " +
+           "order by r.requestCreatedAt, r.id")
+    List<VacationRequestSummaryDTO> findPageByStatusAfter(@Param("status") Status status,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable limit);
+
+    // Cursor-backed export; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT +
+           "where (:status is null or r.status = :status) " +
+           "and (:from is null or r.vacationEndDate >= :from) " +
+           "and (:to is null or r.vacationStartDate <= :to) " +
+           "order by r.id")
+    Stream<VacationRequestSummaryDTO> streamForExport(@Param("status") Status status,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
 }
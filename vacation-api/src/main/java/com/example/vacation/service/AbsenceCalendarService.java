@@ -0,0 +1,87 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.DailyAbsenceDTO;
+import com.example.vacation.dto.DayAbsenceDTO;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.exception.InvalidDateRangeException;
+import com.example.vacation.repository.VacationIntervalView;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Org-wide "how many people are out each day" counts. Approved-only counts across all roles are
+ * read straight from the materialized {@link DailyAbsenceLedger} table. Other combinations are
+ * computed on the fly: each overlapping request adds +1 at its first day in range and -1 after its
+ * last one in a difference array, and a single prefix sum yields the daily totals, so the cost is
+ * O(requests + days) however long the requests are.
+ */
+@Service
+public class AbsenceCalendarService {
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @Value("${vacation.absences.max-days:1830}")
+    private int maxDays = 1830;
+
+    @Transactional(readOnly = true)
+    public DailyAbsenceDTO getDailyAbsences(LocalDate from, LocalDate to, String role, boolean includePending) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidDateRangeException("'from' must be on or before 'to'");
+        }
+        long days = to.toEpochDay() - from.toEpochDay() + 1;
+        if (days > maxDays) {
+            throw new InvalidDateRangeException("Date range is limited to " + maxDays + " days");
+        }
+
+        String roleFilter = role == null || role.isBlank() ? null : role.toUpperCase();
+        int[] counts;
+        if (!includePending && roleFilter == null) {
+            counts = dailyAbsenceLedger.approvedPerDay(from, to);
+        } else {
+            Set<Status> statuses = includePending ? EnumSet.of(Status.APPROVED, Status.PENDING) : EnumSet.of(Status.APPROVED);
+            counts = countPerDay(from, (int) days, vacationRequestRepository.findIntervalsBetween(statuses, from, to, roleFilter));
+        }
+
+        List<DayAbsenceDTO> result = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            result.add(new DayAbsenceDTO(from.plusDays(i), counts[i]));
+        }
+        return new DailyAbsenceDTO(from, to, roleFilter, includePending, result);
+    }
+
+    // counts[i] = number of intervals covering from + i days; intervals are clamped to the range
+    static int[] countPerDay(LocalDate from, int days, List<VacationIntervalView> intervals) {
+        long first = from.toEpochDay();
+        int[] delta = new int[days + 1];
+        for (VacationIntervalView interval : intervals) {
+            int start = (int) Math.max(0, interval.getVacationStartDate().toEpochDay() - first);
+            int end = (int) Math.min(days - 1, interval.getVacationEndDate().toEpochDay() - first);
+            if (start > end) {
+                continue;
+            }
+            delta[start]++;
+            delta[end + 1]--;
+        }
+
+        int[] counts = new int[days];
+        int running = 0;
+        for (int i = 0; i < days; i++) {
+            running += delta[i];
+            counts[i] = running;
+        }
+        return counts;
+    }
+}
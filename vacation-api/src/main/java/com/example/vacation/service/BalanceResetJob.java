@@ -0,0 +1,179 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.BalanceResetResultDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.JobCheckpoint;
+import com.example.vacation.exception.JobAlreadyRunningException;
+import com.example.vacation.repository.JobCheckpointRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Year-end vacation balance reset. Every employee gets the annual allowance plus whatever is
+ * left of last year's balance, capped at the carry-over limit.
+ *
+ * Employees are walked in id order, one chunk at a time. Each chunk is a single JDBC batch
+ * update that also bumps the optimistic-locking version. It commits together with the
+ * {@link JobCheckpoint} row, while only that chunk's {@link EmployeeLocks} stripes are held.
+ * A run that dies part way resumes after the last committed chunk, and a second run for a year
+ * that already completed changes nothing.
+ */
+@Service
+public class BalanceResetJob {
+
+    static final String JOB_NAME = "balance-reset";
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceResetJob.class);
+
+    private static final String NEXT_CHUNK_SQL =
+            "select id from employee where id > ? order by id limit ?";
+
+    // Negative balances carry nothing over
+    private static final String RESET_SQL =
+            "update employee set remaining_vacation_days = ? + least(greatest(remaining_vacation_days, 0), ?), " +
+            "version = version + 1 where id = ?";
+
+    private static final String CHECKPOINT_SQL =
+            "update job_checkpoint set last_processed_id = ?, processed_count = ?, state = ?, updated_at = ? " +
+            "where job_name = ? and run_period = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private EmployeeLocks employeeLocks;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
+    @Autowired
+    private ReplicaReads replicaReads;
+
+    @Value("${vacation.balance-reset.annual-allowance:30}")
+    private int annualAllowance = 30;
+
+    @Value("${vacation.balance-reset.max-carry-over:5}")
+    private int maxCarryOver = 5;
+
+    @Value("${vacation.balance-reset.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${vacation.balance-reset.zone:UTC}")
+    private String zone = "UTC";
+
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BalanceResetJob(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Opt-in: rewriting every balance is too big to happen just because the app was deployed
+    @Scheduled(cron = "${vacation.balance-reset.cron:-}", zone = "${vacation.balance-reset.zone:UTC}")
+    public void scheduledReset() {
+        BalanceResetResultDTO result = run(currentYear());
+        log.info("Scheduled balance reset for {}: {} employees updated in {} chunks",
+                result.getYear(), result.getUpdated(), result.getChunks());
+    }
+
+    public int currentYear() {
+        return Year.now(ZoneId.of(zone)).getValue();
+    }
+
+    /**
+     * Resets all balances for {@code year}, continuing an interrupted run for the same year.
+     */
+    public BalanceResetResultDTO run(int year) {
+        if (!running.compareAndSet(false, true)) {
+            throw new JobAlreadyRunningException("A balance reset is already running");
+        }
+        try {
+            JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME).orElse(null);
+            boolean resumed = checkpoint != null && checkpoint.getRunPeriod() == year;
+            if (resumed && checkpoint.getState() == JobCheckpoint.State.COMPLETED) {
+                return new BalanceResetResultDTO(year, 0, checkpoint.getProcessedCount(), 0, false, true);
+            }
+            if (!resumed) {
+                checkpoint = jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME, year));
+            } else {
+                log.info("Resuming balance reset for {} after employee {}", year, checkpoint.getLastProcessedId());
+            }
+
+            long lastId = checkpoint.getLastProcessedId();
+            int total = checkpoint.getProcessedCount();
+            int updated = 0;
+            int chunks = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(NEXT_CHUNK_SQL, Long.class, lastId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                total += ids.size();
+                resetChunk(year, ids, lastId, total);
+                updated += ids.size();
+                chunks++;
+            }
+
+            jdbcTemplate.update(CHECKPOINT_SQL, lastId, total, JobCheckpoint.State.COMPLETED.name(),
+                    Timestamp.valueOf(LocalDateTime.now()), JOB_NAME, year);
+            log.info("Balance reset for {} completed: {} employees in total", year, total);
+            return new BalanceResetResultDTO(year, updated, total, chunks, resumed, false);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void resetChunk(int year, List<Long> ids, long lastId, int total) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            args.add(new Object[]{annualAllowance, maxCarryOver, id});
+        }
+        employeeLocks.withLocks(ids, () -> {
+            transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(RESET_SQL, args);
+                jdbcTemplate.update(CHECKPOINT_SQL, lastId, total, JobCheckpoint.State.RUNNING.name(),
+                        Timestamp.valueOf(LocalDateTime.now()), JOB_NAME, year);
+                return null;
+            });
+            // Still under the stripes: a request for one of these employees must not validate against a cached old balance
+            evictCaches(ids);
+            return null;
+        });
+    }
+
+    // The updates bypass Hibernate, so cached copies and ETags of these employees are stale once the chunk commits
+    private void evictCaches(List<Long> ids) {
+        for (Long id : ids) {
+            entityManagerFactory.getCache().evict(Employee.class, id);
+            replicaReads.recordWrite(id);
+            vacationService.evictOverviews(id);
+            employeeVersions.bump(id);
+        }
+    }
+}
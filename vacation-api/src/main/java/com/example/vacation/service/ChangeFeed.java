@@ -0,0 +1,241 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.ChangeFeedPageDTO;
+import com.example.vacation.entity.ChangeFeedHead;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequestEvent;
+import com.example.vacation.repository.ChangeFeedHeadRepository;
+import com.example.vacation.repository.VacationRequestEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Transactional outbox of vacation request changes and the feed that reads it.
+ *
+ * Events get their sequence numbers right before their transaction commits, by advancing the
+ * {@link ChangeFeedHead} row. Its row lock is held until the commit, so sequences are handed out
+ * in commit order by the database, across every instance and application context writing to
+ * it. Readers only go up to the committed head. A consumer that has read up to N can therefore
+ * never later miss an event below N. A rolled-back transaction also rolls back its advance, so
+ * the feed has no gaps.
+ *
+ * Before advancing, the transaction flushes its other changes. The head is then the last lock it
+ * takes, and a writer holding it never waits for another writer's rows.
+ *
+ * Long-polling readers park a {@link DeferredResult} and are completed from a notifier thread
+ * once a local transaction that appended events commits. Commits by other instances are picked
+ * up by a periodic check.
+ */
+@Service
+public class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    @Autowired
+    private VacationRequestEventRepository eventRepository;
+
+    @Autowired
+    private ChangeFeedHeadRepository headRepository;
+
+    @Value("${vacation.changes.default-page-size:100}")
+    private int defaultPageSize = 100;
+
+    @Value("${vacation.changes.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    @Value("${vacation.changes.max-wait-ms:30000}")
+    private long maxWaitMs = 30000;
+
+    @Value("${vacation.changes.retention-days:30}")
+    private int retentionDays = 30;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "change-feed-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Waiter(long after, int limit, DeferredResult<ChangeFeedPageDTO> result) {}
+
+    // Events appended by one transaction; sequenced and saved when it is about to commit
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final List<VacationRequestEvent> events = new ArrayList<>();
+
+        private ChangeFeed feed() {
+            return ChangeFeed.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            eventRepository.flush();
+            headRepository.advance(events.size());
+            long sequence = headRepository.findLastSequence().orElseThrow() - events.size();
+            for (VacationRequestEvent event : events) {
+                event.setSequence(++sequence);
+            }
+            eventRepository.saveAll(events);
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!waiters.isEmpty()) {
+                notifier.execute(ChangeFeed.this::wakeWaiters);
+            }
+        }
+    }
+
+    // Creates the head row on first start, continuing after any events already in the table
+    @PostConstruct
+    void ensureHead() {
+        if (headRepository.findLastSequence().isPresent()) {
+            return;
+        }
+        try {
+            headRepository.save(new ChangeFeedHead(eventRepository.findMaxSequence()));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+        }
+    }
+
+    /**
+     * Appends an event for {@code request}. Must run inside the transaction that writes the change.
+     * The event's sequence is assigned when that transaction commits.
+     */
+    public VacationRequestEvent append(VacationRequest request, VacationRequestEvent.Type type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change feed events must be written inside a transaction");
+        }
+        VacationRequestEvent event = new VacationRequestEvent(type, request);
+        pendingEvents().events.add(event);
+        return event;
+    }
+
+    private PendingEvents pendingEvents() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending && pending.feed() == this) {
+                return pending;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * Up to {@code limit} events after {@code after}, in sequence order.
+     */
+    public ChangeFeedPageDTO read(long after, Integer limit) {
+        int size = limit == null || limit <= 0 ? defaultPageSize : Math.min(limit, maxPageSize);
+        long upTo = latestSequence();
+        // Nothing new: answered from the head row alone
+        if (upTo <= after) {
+            return new ChangeFeedPageDTO(after, after, List.of());
+        }
+        List<VacationRequestEvent> events = eventRepository.findRange(after, upTo, PageRequest.of(0, size));
+        long nextAfter = events.isEmpty() ? after : events.get(events.size() - 1).getSequence();
+        return new ChangeFeedPageDTO(after, nextAfter, events);
+    }
+
+    /**
+     * Like {@link #read}, but when there is nothing after {@code after} waits up to {@code waitMs}
+     * for new events before answering with an empty page.
+     */
+    public DeferredResult<ChangeFeedPageDTO> poll(long after, Integer limit, long waitMs) {
+        long wait = Math.min(Math.max(waitMs, 0), maxWaitMs);
+        DeferredResult<ChangeFeedPageDTO> result = new DeferredResult<>(wait > 0 ? wait : null,
+                () -> new ChangeFeedPageDTO(after, after, List.of()));
+
+        ChangeFeedPageDTO page = read(after, limit);
+        if (!page.getEvents().isEmpty() || wait == 0) {
+            result.setResult(page);
+            return result;
+        }
+
+        Waiter waiter = new Waiter(after, limit == null ? 0 : limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // An event may have become visible between the read and the registration
+        if (latestSequence() > after) {
+            wake(waiter);
+        }
+        return result;
+    }
+
+    // Daily; the newest event is always kept so sequences survive a restart
+    @Scheduled(cron = "${vacation.changes.prune-cron:0 30 3 * * *}")
+    @Transactional
+    public int prune() {
+        int deleted = eventRepository.deleteOccurredBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Pruned {} change feed events older than {} days", deleted, retentionDays);
+        }
+        return deleted;
+    }
+
+    // Catches commits made by other instances, which this one is not notified of
+    @Scheduled(fixedDelayString = "${vacation.changes.check-interval-ms:1000}")
+    void checkWaiters() {
+        if (!waiters.isEmpty()) {
+            wakeWaiters();
+        }
+    }
+
+    int waiterCount() {
+        return waiters.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        notifier.shutdownNow();
+    }
+
+    /**
+     * Highest sequence readers may currently see; a consumer that wants only future events starts here.
+     */
+    public long latestSequence() {
+        return headRepository.findLastSequence().orElse(0L);
+    }
+
+    private void wakeWaiters() {
+        long upTo = latestSequence();
+        for (Waiter waiter : waiters) {
+            if (upTo > waiter.after()) {
+                wake(waiter);
+            }
+        }
+    }
+
+    private void wake(Waiter waiter) {
+        // Whoever removes it first answers it
+        if (!waiters.remove(waiter)) {
+            return;
+        }
+        try {
+            waiter.result().setResult(read(waiter.after(), waiter.limit()));
+        } catch (RuntimeException e) {
+            waiter.result().setErrorResult(e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.AbsenceLedgerCheckDTO;
+import com.example.vacation.dto.AbsenceMismatchDTO;
+import com.example.vacation.entity.DailyAbsence;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.exception.InvalidDateRangeException;
+import com.example.vacation.repository.DailyAbsenceRepository;
+import com.example.vacation.repository.VacationIntervalView;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link DailyAbsence} table in step with approvals. Approving a request adds one to
+ * every day it covers and revoking an approval subtracts it again, inside the approving
+ * transaction, so the table commits or rolls back together with the request.
+ *
+ * Rows are created a whole year at a time, in a separate transaction, the first time an approval
+ * touches that year. Rebuilds and consistency checks hold every {@link EmployeeLocks} stripe, so
+ * no approval can interleave with them.
+ */
+@Service
+public class DailyAbsenceLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyAbsenceLedger.class);
+
+    private final Set<Integer> seededYears = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private DailyAbsenceRepository dailyAbsenceRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private EmployeeLocks employeeLocks;
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate seedTransaction;
+
+    public DailyAbsenceLedger(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Records a decision on a request whose status was {@code previous}. Must run inside the
+     * transaction that saves the decision.
+     */
+    public void onDecision(VacationRequest request, Status previous) {
+        boolean wasApproved = previous == Status.APPROVED;
+        boolean isApproved = request.getStatus() == Status.APPROVED;
+        if (wasApproved != isApproved) {
+            adjust(request.getVacationStartDate(), request.getVacationEndDate(), isApproved ? 1 : -1);
+        }
+    }
+
+    /**
+     * Approved absences per day from the table; days without a row count as zero.
+     */
+    public int[] approvedPerDay(LocalDate from, LocalDate to) {
+        int[] counts = new int[(int) (to.toEpochDay() - from.toEpochDay() + 1)];
+        for (DailyAbsence day : dailyAbsenceRepository.findByAbsenceDateBetweenOrderByAbsenceDate(from, to)) {
+            counts[(int) (day.getAbsenceDate().toEpochDay() - from.toEpochDay())] = day.getApprovedCount();
+        }
+        return counts;
+    }
+
+    /**
+     * Recomputes the whole table from the approved requests. Returns the number of days written.
+     */
+    public int rebuild() {
+        return employeeLocks.withAllLocks(() -> transactionTemplate.execute(status -> {
+            dailyAbsenceRepository.deleteAllInBatch();
+            seededYears.clear();
+
+            List<VacationIntervalView> approved = vacationRequestRepository.findIntervalsByStatus(Status.APPROVED);
+            if (approved.isEmpty()) {
+                return 0;
+            }
+            int firstYear = approved.stream().mapToInt(i -> i.getVacationStartDate().getYear()).min().getAsInt();
+            int lastYear = approved.stream().mapToInt(i -> i.getVacationEndDate().getYear()).max().getAsInt();
+            LocalDate from = LocalDate.of(firstYear, 1, 1);
+            LocalDate to = LocalDate.of(lastYear, 12, 31);
+
+            int[] counts = AbsenceCalendarService.countPerDay(from, (int) (to.toEpochDay() - from.toEpochDay() + 1), approved);
+            List<DailyAbsence> rows = new ArrayList<>(counts.length);
+            for (int i = 0; i < counts.length; i++) {
+                rows.add(new DailyAbsence(from.plusDays(i), counts[i]));
+            }
+            dailyAbsenceRepository.saveAll(rows);
+            for (int year = firstYear; year <= lastYear; year++) {
+                seededYears.add(year);
+            }
+            log.info("Rebuilt daily absences for {}..{} from {} approved requests", firstYear, lastYear, approved.size());
+            return rows.size();
+        }));
+    }
+
+    /**
+     * Compares the table with a recomputation from the approved requests over [from, to].
+     */
+    public AbsenceLedgerCheckDTO check(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidDateRangeException("'from' must be on or before 'to'");
+        }
+        int days = (int) (to.toEpochDay() - from.toEpochDay() + 1);
+
+        return employeeLocks.withAllLocks(() -> transactionTemplate.execute(status -> {
+            int[] stored = approvedPerDay(from, to);
+            int[] expected = AbsenceCalendarService.countPerDay(from, days,
+                    vacationRequestRepository.findIntervalsBetween(EnumSet.of(Status.APPROVED), from, to, null));
+
+            List<AbsenceMismatchDTO> mismatches = new ArrayList<>();
+            for (int i = 0; i < days; i++) {
+                if (stored[i] != expected[i]) {
+                    mismatches.add(new AbsenceMismatchDTO(from.plusDays(i), stored[i], expected[i]));
+                }
+            }
+            return new AbsenceLedgerCheckDTO(from, to, days, mismatches);
+        }));
+    }
+
+    // Builds the table on first start against a database that already has approvals
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (dailyAbsenceRepository.count() == 0 && !vacationRequestRepository.findIntervalsByStatus(Status.APPROVED).isEmpty()) {
+            rebuild();
+        }
+    }
+
+    private void adjust(LocalDate from, LocalDate to, int delta) {
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            ensureYear(year);
+        }
+        dailyAbsenceRepository.adjust(from, to, delta);
+    }
+
+    private void ensureYear(int year) {
+        if (!seededYears.contains(year)) {
+            seedYear(year);
+        }
+    }
+
+    // Committed on its own so the rows are visible to (and lockable by) every approving transaction
+    private synchronized void seedYear(int year) {
+        if (seededYears.contains(year)) {
+            return;
+        }
+        LocalDate first = LocalDate.of(year, 1, 1);
+        LocalDate last = LocalDate.of(year, 12, 31);
+        seedTransaction.executeWithoutResult(status -> {
+            Set<LocalDate> existing = new HashSet<>(dailyAbsenceRepository.findDatesBetween(first, last));
+            List<DailyAbsence> missing = new ArrayList<>();
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                if (!existing.contains(day)) {
+                    missing.add(new DailyAbsence(day, 0));
+                }
+            }
+            dailyAbsenceRepository.saveAll(missing);
+        });
+        seededYears.add(year);
+    }
+}
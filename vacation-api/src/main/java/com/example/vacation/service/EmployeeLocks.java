@@ -0,0 +1,94 @@
+package com.example.vacation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped in-process locks keyed by employee id. Holding an employee's stripe around the
+ * whole check-then-write transaction makes overlap and balance checks atomic per employee,
+ * while employees on other stripes proceed in parallel.
+ */
+@Component
+public class EmployeeLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public EmployeeLocks(@Value("${vacation.locking.stripes:64}") int stripeCount) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(Long employeeId, Supplier<T> work) {
+        ReentrantLock lock = stripes[stripeOf(employeeId)];
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Locks the stripes of several employees, always in ascending stripe order so that
+     * concurrent multi-employee callers cannot deadlock.
+     */
+    public <T> T withLocks(Collection<Long> employeeIds, Supplier<T> work) {
+        int[] order = employeeIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int acquired = 0;
+        try {
+            for (int stripe : order) {
+                stripes[stripe].lock();
+                acquired++;
+            }
+            return work.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[order[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Locks every stripe, in the same ascending order, for maintenance work that must not
+     * interleave with any per-employee write.
+     */
+    public <T> T withAllLocks(Supplier<T> work) {
+        int acquired = 0;
+        try {
+            for (ReentrantLock stripe : stripes) {
+                stripe.lock();
+                acquired++;
+            }
+            return work.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private int stripeOf(Long employeeId) {
+        int h = employeeId == null ? 0 : Long.hashCode(employeeId);
+        // Spread the bits so sequential ids do not cluster on low stripes
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.VacationRequest.Status;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Cache keys for {@link VacationService#getEmployeeVacationOverview}: employee, status filter and
+ * the employee's {@link EmployeeVersions} counter as read before the overview is loaded.
+ *
+ * The counter is bumped after a write commits, so a load keyed on version {@code v} never reads
+ * data older than {@code v}. A load that races a write can still finish after the write's eviction,
+ * but it is stored under the old version, which no reader asks for again.
+ */
+@Component
+public class EmployeeOverviewKeyGenerator implements KeyGenerator {
+
+    private final EmployeeVersions employeeVersions;
+
+    public EmployeeOverviewKeyGenerator(EmployeeVersions employeeVersions) {
+        this.employeeVersions = employeeVersions;
+    }
+
+    public static Object key(Long employeeId, Status statusFilter, long version) {
+        return new SimpleKey(employeeId, statusFilter, version);
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Long employeeId = (Long) params[0];
+        return key(employeeId, (Status) params[1], employeeVersions.version(employeeId));
+    }
+}
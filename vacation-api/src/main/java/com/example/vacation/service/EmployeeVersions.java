@@ -0,0 +1,72 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory change counters per employee, used as strong ETags for the employee's request list
+ * and overview. Computing a tag is a map lookup, so an unchanged resource can be answered with
+ * 304 before any query runs.
+ *
+ * A counter is bumped after the transaction that changed the employee's requests or balance has
+ * committed. A tag handed out earlier can therefore never label data that was not yet visible.
+ * The counters start again at zero on restart, so each tag also carries an epoch that is unique
+ * to this process.
+ */
+@Component
+public class EmployeeVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public void bump(Long employeeId) {
+        versions.computeIfAbsent(employeeId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long version(Long employeeId) {
+        AtomicLong version = versions.get(employeeId);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Strong ETag value, quoted, for the current state of the employee's data.
+     */
+    public String etag(Long employeeId) {
+        return etagOf(version(employeeId), null);
+    }
+
+    /**
+     * Strong ETag value for one representation of the employee's data. The same data is served as
+     * JSON, CBOR or Smile depending on the Accept header, and a strong tag must not match across
+     * different bytes, so any Accept value other than the default gets a tag of its own.
+     */
+    public String etag(Long employeeId, String accept) {
+        return etagOf(version(employeeId), accept);
+    }
+
+    /**
+     * Tag for an overview: the version it was built from, or the current one when it does not
+     * carry a version.
+     */
+    public String etag(Long employeeId, EmployeeVacationOverviewDTO overview, String accept) {
+        if (overview == null || overview.getVersion() == null) {
+            return etag(employeeId, accept);
+        }
+        return etagOf(overview.getVersion(), accept);
+    }
+
+    /**
+     * Strong ETag value for a representation built from a given version, e.g. a cached overview
+     * that may be older than the current counter.
+     */
+    public String etagOf(long version, String accept) {
+        if (accept == null || accept.isBlank() || accept.equals("*/*")) {
+            return "\"" + epoch + "-" + version + "\"";
+        }
+        return "\"" + epoch + "-" + version + "-" + Integer.toHexString(accept.hashCode()) + "\"";
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.vacation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for database replication when the replica is a second local H2 instance, for tests and
+ * local development. Every {@code sync-interval-ms} it copies all tables of the primary into the
+ * replica in one replica transaction, so readers there see either the previous copy or the new one.
+ * The schema is copied once, on the first pass. A real replica is kept in sync by the database
+ * itself and leaves {@code local-sync} off.
+ *
+ * After each pass it tells {@link ReplicaReads} how far the replica has caught up, which lifts
+ * the read-your-writes guard for employees whose writes are now on the replica.
+ */
+@Component
+@ConditionalOnProperty(prefix = "vacation.datasource.replica", name = "local-sync", havingValue = "true")
+public class LocalReplicaSync {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaSync.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaReads replicaReads;
+    private boolean schemaCopied;
+
+    public LocalReplicaSync(@Qualifier("primaryDataSource") DataSource primary,
+                            @Qualifier("replicaDataSource") DataSource replica,
+                            ReplicaReads replicaReads) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaReads = replicaReads;
+    }
+
+    @Scheduled(fixedDelayString = "${vacation.datasource.replica.sync-interval-ms:1000}")
+    public void scheduledSync() {
+        try {
+            sync();
+        } catch (SQLException e) {
+            log.warn("Replica sync failed; the replica keeps its previous copy", e);
+        }
+    }
+
+    /**
+     * Copies the primary into the replica now. Returns the number of rows copied.
+     */
+    public synchronized long sync() throws SQLException {
+        // Everything committed before this instant is inside the snapshot read below
+        long position = System.nanoTime();
+        long rows = 0;
+
+        try (Connection from = primary.getConnection(); Connection to = replica.getConnection()) {
+            from.setAutoCommit(false);
+            from.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            from.setReadOnly(true);
+            if (!schemaCopied) {
+                copySchema(from, to);
+                schemaCopied = true;
+            }
+
+            try (Statement statement = to.createStatement()) {
+                // Tables are emptied and refilled in no particular order
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            }
+            try {
+                to.setAutoCommit(false);
+                try {
+                    for (String table : tables(from)) {
+                        rows += copyTable(from, to, table);
+                    }
+                    to.commit();
+                } catch (SQLException e) {
+                    to.rollback();
+                    throw e;
+                } finally {
+                    from.rollback();
+                }
+            } finally {
+                // The setting is database-wide on H2 and outlives this pooled connection
+                to.setAutoCommit(true);
+                try (Statement statement = to.createStatement()) {
+                    statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+                }
+            }
+        }
+
+        replicaReads.replicatedUpTo(position);
+        return rows;
+    }
+
+    private void copySchema(Connection from, Connection to) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement statement = from.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                String sql = script.getString(1);
+                // Users and rights belong to the replica, not to what is replicated; comments are row counts
+                if (!sql.startsWith("CREATE USER") && !sql.startsWith("--")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+        try (Statement statement = to.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+        log.info("Copied schema of {} statements to the replica", ddl.size());
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select table_name from information_schema.tables " +
+                     "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'")) {
+            while (result.next()) {
+                tables.add(result.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private static long copyTable(Connection from, Connection to, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = to.createStatement()) {
+            delete.executeUpdate("delete from " + quoted);
+        }
+
+        long rows = 0;
+        try (Statement select = from.createStatement();
+             ResultSet source = select.executeQuery("select * from " + quoted)) {
+            int columns = source.getMetaData().getColumnCount();
+            String insert = "insert into " + quoted + " values (" + "?, ".repeat(columns - 1) + "?)";
+            try (PreparedStatement target = to.prepareStatement(insert)) {
+                while (source.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        target.setObject(i, source.getObject(i));
+                    }
+                    target.addBatch();
+                    if (++rows % BATCH_SIZE == 0) {
+                        target.executeBatch();
+                    }
+                }
+                target.executeBatch();
+            }
+        }
+        return rows;
+    }
+}
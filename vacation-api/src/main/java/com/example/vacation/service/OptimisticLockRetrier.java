@@ -0,0 +1,77 @@
+package com.example.vacation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it, with jittered exponential
+ * backoff, when it loses an optimistic-locking race. Each attempt starts a fresh
+ * transaction, so the work re-reads current versions instead of retrying stale state.
+ */
+@Component
+public class OptimisticLockRetrier {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetrier.class);
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    @Value("${vacation.retry.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${vacation.retry.initial-backoff-ms:10}")
+    private long initialBackoffMillis = 10;
+
+    @Value("${vacation.retry.max-backoff-ms:200}")
+    private long maxBackoffMillis = 200;
+
+    public OptimisticLockRetrier(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T inTransaction(Supplier<T> work) {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    exhausted.incrementAndGet();
+                    log.warn("Giving up after {} optimistic-lock conflicts: {}", attempt, e.getMessage());
+                    throw e;
+                }
+                retries.incrementAndGet();
+                log.debug("Optimistic-lock conflict on attempt {}, retrying in ~{} ms", attempt, backoff);
+                pause(backoff, e);
+                backoff = Math.min(backoff * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    private static void pause(long backoff, OptimisticLockingFailureException cause) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    // Contention counters
+    public long getConflictCount() { return conflicts.get(); }
+    public long getRetryCount() { return retries.get(); }
+    public long getExhaustedCount() { return exhausted.get(); }
+}
@@ -0,0 +1,133 @@
+package com.example.vacation.service;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which read-only transactions may run on the read replica, when one is configured.
+ *
+ * Nothing goes to the replica unless the transaction opts in with {@link #allow()} or
+ * {@link #allowFor(Long)}, so repository calls made outside a service, the change feed and job
+ * checkpoints keep reading the primary. Without a replica the routing data source does not exist
+ * and these calls change nothing.
+ *
+ * The replica lags behind. After a write for an employee has committed, reads for that employee
+ * stay on the primary until the replica has caught up past the write (as reported by the
+ * replication, see {@link #replicatedUpTo(long)}) or until {@code max-lag-ms} has passed, so an
+ * employee always sees their own new request.
+ *
+ * Entities read from the replica may be behind the primary, so a replica-routed transaction
+ * never puts anything into Hibernate's second-level cache. It still reads from it: cached entries
+ * come from the primary.
+ */
+@Component
+public class ReplicaReads {
+
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    private final ThreadLocal<Boolean> replicaAllowed = new ThreadLocal<>();
+    // Employee id -> System.nanoTime() of their last committed write not yet known to be replicated
+    private final ConcurrentMap<Long, Long> pendingWrites = new ConcurrentHashMap<>();
+    private final long maxLagNanos;
+    private final boolean replicaConfigured;
+    // Looked up per call: the routing data source, and so the entity manager factory, depend on this bean
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private volatile long replicatedUpTo = System.nanoTime();
+
+    public ReplicaReads(@Value("${vacation.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+                        @Value("${vacation.datasource.replica.url:}") String replicaUrl,
+                        ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMs);
+        this.replicaConfigured = !replicaUrl.isBlank();
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Lets the current read-only transaction run on the replica. Must be called before its first
+     * statement; has no effect in a read-write transaction or outside a transaction.
+     */
+    public void allow() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || replicaAllowed.get() != null) {
+            return;
+        }
+        replicaAllowed.set(Boolean.TRUE);
+        EntityManager entityManager = replicaConfigured ? currentEntityManager() : null;
+        Object previous = entityManager == null ? null : entityManager.getProperties().get(CACHE_STORE_MODE);
+        if (entityManager != null) {
+            entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                replicaAllowed.remove();
+                // With open-in-view the session outlives the transaction and may run read-write ones next
+                if (entityManager != null && entityManager.isOpen()) {
+                    entityManager.setProperty(CACHE_STORE_MODE, previous != null ? previous : CacheStoreMode.USE);
+                }
+            }
+        });
+    }
+
+    private EntityManager currentEntityManager() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        return factory == null ? null : EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+    }
+
+    /**
+     * Like {@link #allow()}, unless the employee has a write the replica may not have yet.
+     */
+    public void allowFor(Long employeeId) {
+        if (!isStale(employeeId)) {
+            allow();
+        }
+    }
+
+    /**
+     * Records a committed write for the employee. Call after commit: marking earlier could let a
+     * replication pass that started before the commit count as having caught up with it.
+     */
+    public void recordWrite(Long employeeId) {
+        pendingWrites.put(employeeId, System.nanoTime());
+    }
+
+    /**
+     * Called by the replication once everything committed before {@code nanoTime} is readable on
+     * the replica.
+     */
+    public void replicatedUpTo(long nanoTime) {
+        replicatedUpTo = nanoTime;
+        pendingWrites.values().removeIf(written -> written - nanoTime <= 0);
+    }
+
+    public boolean isStale(Long employeeId) {
+        Long written = pendingWrites.get(employeeId);
+        if (written == null) {
+            return false;
+        }
+        if (written - replicatedUpTo <= 0 || System.nanoTime() - written > maxLagNanos) {
+            pendingWrites.remove(employeeId, written);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * True when the statement about to run belongs to a read-only transaction that opted in.
+     */
+    public boolean replicaAllowed() {
+        return replicaAllowed.get() != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.VacationRequestEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed vacation request events out to Server-Sent Events subscribers.
+ *
+ * Publishing never blocks: the event is offered to each subscriber's bounded buffer and a drain
+ * task is scheduled on a small shared pool, which writes to at most one connection per task. A
+ * subscriber whose buffer is full is too far behind and is disconnected, so a stuck browser only
+ * ever costs its own buffer and, at worst, one drain thread. Each SSE id is the change feed
+ * sequence, so a client that reconnects can fetch what it missed from the change feed.
+ */
+@Component
+public class RequestEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestEventBroadcaster.class);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final ExecutorService drainExecutor;
+    private final Counter evicted;
+
+    public RequestEventBroadcaster(MeterRegistry registry,
+                                   @Value("${vacation.stream.buffer-size:256}") int bufferSize,
+                                   @Value("${vacation.stream.drain-threads:4}") int drainThreads,
+                                   @Value("${vacation.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.drainExecutor = Executors.newFixedThreadPool(drainThreads, r -> {
+            Thread thread = new Thread(r, "sse-drain-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("vacation.stream.subscribers", subscribers, Set::size)
+                .description("Connected request stream subscribers")
+                .register(registry);
+        this.evicted = Counter.builder("vacation.stream.evicted")
+                .description("Request stream subscribers disconnected for falling behind")
+                .register(registry);
+    }
+
+    /**
+     * Opens a new stream; it receives every event published from now on.
+     */
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(timeoutMs));
+    }
+
+    // Separate from subscribe() so tests can supply their own emitter
+    SseEmitter register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Hands a committed event to every subscriber without waiting on any of them.
+     */
+    public void publish(VacationRequestEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(event)) {
+                evict(subscriber);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        drainExecutor.shutdownNow();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        // At most one drain per subscriber at a time keeps its events in order
+        if (!subscriber.closed.get() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            VacationRequestEvent event;
+            while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getSequence()))
+                        .name(event.getType().name())
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away, or the emitter was already completed
+            subscriber.closed.set(true);
+            subscribers.remove(subscriber);
+            subscriber.buffer.clear();
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (subscriber.closed.get()) {
+            closeIfIdle(subscriber);
+        } else if (!subscriber.buffer.isEmpty()) {
+            // An event offered after the last poll but before the flag was cleared would otherwise wait for the next publish
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evicted.increment();
+            subscriber.closed.set(true);
+            subscriber.buffer.clear();
+            log.debug("Disconnecting request stream subscriber that fell {} events behind", bufferSize);
+            closeIfIdle(subscriber);
+        }
+    }
+
+    // Completing waits for a send in progress, so only the side that finds the subscriber idle does it;
+    // if a drain is running it completes the emitter itself once its current send returns
+    private void closeIfIdle(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<VacationRequestEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
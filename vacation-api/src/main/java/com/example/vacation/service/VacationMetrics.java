@@ -0,0 +1,67 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.VacationRequest.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Domain meters of {@link VacationService}, on top of the per-method timers from {@code @Timed}.
+ * Tags are kept to small fixed sets (operation, reason, status) so they are safe to alert on;
+ * employees with unusual histories show up in the tails of the row-count summaries.
+ */
+@Component
+public class VacationMetrics {
+
+    // Rejection reasons, used as the "reason" tag
+    public static final String INSUFFICIENT_BALANCE = "insufficient_balance";
+    public static final String OVERLAP = "overlap";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary overlapRows;
+
+    public VacationMetrics(MeterRegistry registry, OptimisticLockRetrier optimisticLockRetrier) {
+        this.registry = registry;
+        this.overlapRows = DistributionSummary.builder("vacation.overlap.rows")
+                .description("Requests loaded by an overlapping-requests lookup")
+                .baseUnit("rows")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        FunctionCounter.builder("vacation.optimistic_lock.conflicts", optimisticLockRetrier, OptimisticLockRetrier::getConflictCount)
+                .description("Transactions that lost an optimistic-locking race")
+                .register(registry);
+        FunctionCounter.builder("vacation.optimistic_lock.retries", optimisticLockRetrier, OptimisticLockRetrier::getRetryCount)
+                .description("Transactions re-run after an optimistic-locking conflict")
+                .register(registry);
+        FunctionCounter.builder("vacation.optimistic_lock.exhausted", optimisticLockRetrier, OptimisticLockRetrier::getExhaustedCount)
+                .description("Transactions that gave up after the last retry")
+                .register(registry);
+    }
+
+    // A create or approval refused by a business rule; operation is create, create_batch or approve
+    public void recordRejection(String operation, String reason) {
+        Counter.builder("vacation.requests.rejected")
+                .description("Vacation requests refused by a business rule")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordOverlapRows(int rows) {
+        overlapRows.record(rows);
+    }
+
+    public void recordListed(Status status, int size) {
+        DistributionSummary.builder("vacation.requests.listed")
+                .description("Requests returned by a manager listing")
+                .baseUnit("rows")
+                .tag("status", status != null ? status.name() : "ALL")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(size);
+    }
+}
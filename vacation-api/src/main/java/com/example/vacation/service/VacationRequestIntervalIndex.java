@@ -0,0 +1,200 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.VacationIntervalView;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of the non-rejected vacation intervals of every employee.
+ * Answers "does [start, end] overlap any existing request?" with a binary search
+ * instead of loading and filtering the employee's whole request history.
+ *
+ * The index is rebuilt from the database on startup and kept in sync by the write
+ * paths of {@link VacationService}. Employees that are not resident yet are answered
+ * with a single indexed existence probe and loaded on their next write.
+ */
+@Component
+public class VacationRequestIntervalIndex {
+
+    private final ConcurrentMap<Long, EmployeeIntervals> intervalsByEmployee = new ConcurrentHashMap<>();
+    // Employees written while a rebuild is running; their entries are newer than the rebuild's snapshot
+    private volatile Set<Long> touchedDuringRebuild;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    public boolean hasOverlap(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        EmployeeIntervals intervals = intervalsByEmployee.get(employeeId);
+        if (intervals == null) {
+            return vacationRequestRepository.existsOverlapping(employeeId, startDate, endDate);
+        }
+        return intervals.overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Records a saved request. Rejected requests are removed instead, so this is
+     * also the hook for status changes. Applied only once the transaction commits.
+     */
+    public void update(VacationRequest request) {
+        Long employeeId = request.getAuthor().getId();
+        Long requestId = request.getId();
+        long start = request.getVacationStartDate().toEpochDay();
+        long end = request.getVacationEndDate().toEpochDay();
+        boolean active = request.getStatus() != Status.REJECTED;
+
+        AfterCommit.run(() -> intervalsByEmployee.compute(employeeId, (id, current) -> {
+            Set<Long> touched = touchedDuringRebuild;
+            if (touched != null) {
+                touched.add(id);
+            }
+            if (current == null) {
+                // The committed row is already part of what we load
+                return load(id);
+            }
+            return active ? current.with(requestId, start, end) : current.without(requestId);
+        }));
+    }
+
+    /**
+     * Reloads every employee from the database. Writes keep arriving while the snapshot is read,
+     * so the snapshot is merged key by key: an employee written since the rebuild started keeps
+     * the entry those writes produced instead of the possibly older snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Set<Long> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringRebuild = touched;
+        try {
+            Map<Long, List<VacationIntervalView>> byEmployee = vacationRequestRepository.findAllIntervals(Status.REJECTED)
+                    .stream()
+                    .collect(Collectors.groupingBy(VacationIntervalView::getAuthorId));
+
+            Map<Long, EmployeeIntervals> rebuilt = new HashMap<>();
+            byEmployee.forEach((employeeId, intervals) -> rebuilt.put(employeeId, EmployeeIntervals.of(intervals)));
+
+            rebuilt.forEach((employeeId, intervals) -> intervalsByEmployee.compute(employeeId,
+                    (id, current) -> current != null && touched.contains(id) ? current : intervals));
+            for (Long employeeId : intervalsByEmployee.keySet()) {
+                if (!rebuilt.containsKey(employeeId)) {
+                    intervalsByEmployee.computeIfPresent(employeeId, (id, current) -> touched.contains(id) ? current : null);
+                }
+            }
+        } finally {
+            touchedDuringRebuild = null;
+        }
+    }
+
+    private EmployeeIntervals load(Long employeeId) {
+        return EmployeeIntervals.of(vacationRequestRepository.findIntervalsByAuthorId(employeeId, Status.REJECTED));
+    }
+
+    /**
+     * Immutable snapshot of one employee's intervals, sorted by start day. {@code maxEnd[i]}
+     * holds the latest end among the first {@code i + 1} intervals, so an overlap exists
+     * iff the last interval starting on or before the query end reaches the query start.
+     */
+    static final class EmployeeIntervals {
+
+        private final long[] ids;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnd;
+
+        private EmployeeIntervals(long[] ids, long[] starts, long[] ends) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnd = new long[ends.length];
+            for (int i = 0; i < ends.length; i++) {
+                maxEnd[i] = i == 0 ? ends[0] : Math.max(maxEnd[i - 1], ends[i]);
+            }
+        }
+
+        static EmployeeIntervals of(List<VacationIntervalView> intervals) {
+            VacationIntervalView[] sorted = intervals.stream()
+                    .sorted((a, b) -> a.getVacationStartDate().compareTo(b.getVacationStartDate()))
+                    .toArray(VacationIntervalView[]::new);
+
+            long[] ids = new long[sorted.length];
+            long[] starts = new long[sorted.length];
+            long[] ends = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].getId();
+                starts[i] = sorted[i].getVacationStartDate().toEpochDay();
+                ends[i] = sorted[i].getVacationEndDate().toEpochDay();
+            }
+            return new EmployeeIntervals(ids, starts, ends);
+        }
+
+        boolean overlaps(long start, long end) {
+            int last = lastStartingOnOrBefore(end);
+            return last >= 0 && maxEnd[last] >= start;
+        }
+
+        EmployeeIntervals with(long id, long start, long end) {
+            EmployeeIntervals base = without(id);
+            int n = base.starts.length;
+            int pos = base.lastStartingOnOrBefore(start) + 1;
+
+            long[] newIds = new long[n + 1];
+            long[] newStarts = new long[n + 1];
+            long[] newEnds = new long[n + 1];
+            copyInserting(base.ids, newIds, pos, id);
+            copyInserting(base.starts, newStarts, pos, start);
+            copyInserting(base.ends, newEnds, pos, end);
+            return new EmployeeIntervals(newIds, newStarts, newEnds);
+        }
+
+        EmployeeIntervals without(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return new EmployeeIntervals(removeAt(ids, i), removeAt(starts, i), removeAt(ends, i));
+                }
+            }
+            return this;
+        }
+
+        private int lastStartingOnOrBefore(long day) {
+            int low = 0;
+            int high = starts.length - 1;
+            int result = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= day) {
+                    result = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return result;
+        }
+
+        private static void copyInserting(long[] source, long[] target, int pos, long value) {
+            System.arraycopy(source, 0, target, 0, pos);
+            target[pos] = value;
+            System.arraycopy(source, pos, target, pos + 1, source.length - pos);
+        }
+
+        private static long[] removeAt(long[] source, int index) {
+            long[] result = Arrays.copyOf(source, source.length - 1);
+            System.arraycopy(source, index + 1, result, index, source.length - index - 1);
+            return result;
+        }
+    }
+}
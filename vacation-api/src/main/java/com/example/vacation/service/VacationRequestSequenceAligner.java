@@ -0,0 +1,51 @@
+package com.example.vacation.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves {@code vacation_request_seq} past the ids already in {@code vacation_request}.
+ *
+ * Request ids used to come from an identity column. On a database created back then,
+ * {@code ddl-auto=update} adds the sequence starting at 1, and the first inserts would collide
+ * with existing rows. Runs once at startup, after Hibernate has updated the schema and before the
+ * web server takes requests.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class VacationRequestSequenceAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationRequestSequenceAligner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VacationRequestSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        List<Map<String, Object>> sequence = jdbcTemplate.queryForList(
+                "select base_value, increment from information_schema.sequences where sequence_name = 'VACATION_REQUEST_SEQ'");
+        if (sequence.isEmpty()) {
+            return;
+        }
+        long next = ((Number) sequence.get(0).get("BASE_VALUE")).longValue();
+        long increment = ((Number) sequence.get(0).get("INCREMENT")).longValue();
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from vacation_request", Long.class);
+
+        // The pooled optimizer hands out (value - increment, value], so the block below the next value must be free
+        if (next - increment < maxId) {
+            long restart = maxId + increment;
+            jdbcTemplate.execute("alter sequence vacation_request_seq restart with " + restart);
+            log.info("Restarted vacation_request_seq at {} (highest request id {})", restart, maxId);
+        }
+    }
+}
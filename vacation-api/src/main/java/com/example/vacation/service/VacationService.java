@@ -1,25 +1,56 @@
 package com.example.vacation.service;
 
+import com.example.vacation.config.CacheConfig;
+import com.example.vacation.dto.BatchItemResultDTO;
+import com.example.vacation.dto.BulkProcessRequestDTO;
 import com.example.vacation.dto.CreateVacationRequestDTO;
 import com.example.vacation.dto.UpdateVacationRequestDTO;
 import com.example.vacation.entity.Employee;
 import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.ProcessDecisionDTO;
+import com.example.vacation.dto.VacationRequestPageDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.entity.VacationRequestEvent;
 import com.example.vacation.exception.EmployeeNotFoundException;
 import com.example.vacation.exception.NotEnoughVacationDaysException;
 import com.example.vacation.exception.VacationRequestNotFoundException;
 import com.example.vacation.repository.EmployeeRepository;
 import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "vacation.service", description = "VacationService calls", histogram = true)
 public class VacationService {
 
     @Autowired
@@ -28,10 +59,58 @@ public class VacationService {
     @Autowired
     private VacationRequestRepository vacationRequestRepository;
 
+    @Autowired
+    private VacationRequestIntervalIndex intervalIndex;
+
+    @Autowired
+    private OptimisticLockRetrier optimisticLockRetrier;
+
+    @Autowired
+    private EmployeeLocks employeeLocks;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VacationMetrics metrics;
+
+    @Autowired
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @Autowired
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private RequestEventBroadcaster requestEventBroadcaster;
+
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
+    @Autowired
+    private ReplicaReads replicaReads;
+
+    @Value("${vacation.paging.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${vacation.paging.max-size:500}")
+    private int maxPageSize = 500;
+
+    @Transactional
     public VacationRequest createVacationRequest(VacationRequest request) {
-        return vacationRequestRepository.save(request);
+        VacationRequest saved = vacationRequestRepository.save(request);
+        onRequestWritten(saved, VacationRequestEvent.Type.CREATED);
+        return saved;
     }
 
+    // Read-only transactions skip dirty checking: Hibernate runs them with FlushMode.MANUAL
+    // and the JDBC connection is flagged read-only for their duration
+    @Transactional(readOnly = true)
     public VacationRequest getVacationRequestById(Long id) {
         return vacationRequestRepository.findById(id)
                 .orElseThrow(() -> new VacationRequestNotFoundException(id));
@@ -43,7 +122,7 @@ public class VacationService {
      * Returns true if there is any overlapping vacation request for the given employee/date range.
      */
     public boolean hasOverlap(Employee employee, LocalDate startDate, LocalDate endDate) {
-        return !getOverlappingRequestsForEmployee(employee, startDate, endDate).isEmpty();
+        return intervalIndex.hasOverlap(employee.getId(), startDate, endDate);
     }
 
     /**
@@ -55,11 +134,122 @@ public class VacationService {
 
 
     public VacationRequest createRequest(CreateVacationRequestDTO dto) {
+        // Overlap check and insert must not interleave with other writes for the same employee
+        return employeeLocks.withLock(dto.getAuthorId(),
+                () -> optimisticLockRetrier.inTransaction(() -> doCreateRequest(dto)));
+    }
+
+    private VacationRequest doCreateRequest(CreateVacationRequestDTO dto) {
         Employee author = employeeRepository.findById(dto.getAuthorId())
                 .orElseThrow(() -> new EmployeeNotFoundException(dto.getAuthorId()));
 
-        int requestedDays = (int) ChronoUnit.DAYS.between(dto.getVacationStartDate(), dto.getVacationEndDate()) + 1;
+        VacationRequest newRequest = newPendingRequest(author, dto.getVacationStartDate(), dto.getVacationEndDate(), "create");
+
+        VacationRequest saved = vacationRequestRepository.save(newRequest);
+        onRequestWritten(saved, VacationRequestEvent.Type.CREATED);
+        return saved;
+    }
+
+    /**
+     * Creates many requests in one transaction. Authors are loaded with a single query, each item is
+     * validated against the author's balance, existing requests and the items accepted earlier in the
+     * same batch, and the accepted rows are inserted as JDBC batches. Invalid items are reported, not thrown.
+     */
+    public List<BatchItemResultDTO> createRequests(List<CreateVacationRequestDTO> dtos) {
+        Set<Long> authorIds = dtos.stream()
+                .map(CreateVacationRequestDTO::getAuthorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return employeeLocks.withLocks(authorIds,
+                () -> optimisticLockRetrier.inTransaction(() -> doCreateRequests(dtos, authorIds)));
+    }
+
+    private List<BatchItemResultDTO> doCreateRequests(List<CreateVacationRequestDTO> dtos, Set<Long> authorIds) {
+        Map<Long, Employee> authors = employeeRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        Map<Long, List<VacationRequest>> acceptedByAuthor = new HashMap<>();
+        List<VacationRequest> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        BatchItemResultDTO[] results = new BatchItemResultDTO[dtos.size()];
+
+        for (int i = 0; i < dtos.size(); i++) {
+            CreateVacationRequestDTO dto = dtos.get(i);
+            try {
+                Employee author = authors.get(dto.getAuthorId());
+                if (author == null) {
+                    throw new EmployeeNotFoundException(dto.getAuthorId());
+                }
+                if (dto.getVacationStartDate() == null || dto.getVacationEndDate() == null
+                        || dto.getVacationStartDate().isAfter(dto.getVacationEndDate())) {
+                    throw new IllegalArgumentException("Vacation start date must not be after the end date");
+                }
+
+                List<VacationRequest> sameAuthor = acceptedByAuthor.computeIfAbsent(author.getId(), id -> new ArrayList<>());
+                boolean overlapsBatch = sameAuthor.stream().anyMatch(r ->
+                        !(dto.getVacationStartDate().isAfter(r.getVacationEndDate())
+                                || dto.getVacationEndDate().isBefore(r.getVacationStartDate())));
+                if (overlapsBatch) {
+                    metrics.recordRejection("create_batch", VacationMetrics.OVERLAP);
+                    throw new NotEnoughVacationDaysException("Vacation request overlaps with another request in this batch.");
+                }
+
+                VacationRequest newRequest = newPendingRequest(author, dto.getVacationStartDate(), dto.getVacationEndDate(), "create_batch");
+                sameAuthor.add(newRequest);
+                accepted.add(newRequest);
+                acceptedIndexes.add(i);
+            } catch (RuntimeException e) {
+                results[i] = BatchItemResultDTO.failed(i, null, e.getMessage());
+            }
+        }
+
+        // Sequence ids are assigned here; the inserts themselves are batched at flush
+        vacationRequestRepository.saveAll(accepted);
+        for (int k = 0; k < accepted.size(); k++) {
+            VacationRequest saved = accepted.get(k);
+            int i = acceptedIndexes.get(k);
+            onRequestWritten(saved, VacationRequestEvent.Type.CREATED);
+            results[i] = BatchItemResultDTO.succeeded(i, saved.getId());
+        }
+        return Arrays.asList(results);
+    }
+
+    // Keeps derived read models and the change feed in step with a created or processed request
+    private void onRequestWritten(VacationRequest request, VacationRequestEvent.Type type) {
+        intervalIndex.update(request);
+        VacationRequestEvent event = changeFeed.append(request, type);
+
+        Long employeeId = request.getAuthor().getId();
+        AfterCommit.run(() -> {
+            // First, so the overview reloaded after the eviction comes from the primary
+            replicaReads.recordWrite(employeeId);
+            evictOverviews(employeeId);
+            // Moves readers on to a fresh cache key, so an overview loaded before the commit is never served again
+            employeeVersions.bump(employeeId);
+            requestEventBroadcaster.publish(event);
+        });
+    }
+
+    // Drops the employee's cached overviews at the current version; also used by jobs that change balances in bulk.
+    // Only frees the entries early: the version bump that follows is what makes them unreachable.
+    public void evictOverviews(Long employeeId) {
+        Cache overviews = cacheManager.getCache(CacheConfig.EMPLOYEE_OVERVIEW_CACHE);
+        if (overviews == null) {
+            return;
+        }
+        long version = employeeVersions.version(employeeId);
+        // One entry per status filter, plus the unfiltered one
+        overviews.evict(EmployeeOverviewKeyGenerator.key(employeeId, null, version));
+        for (Status status : Status.values()) {
+            overviews.evict(EmployeeOverviewKeyGenerator.key(employeeId, status, version));
+        }
+    }
+
+    // Validates balance and overlaps for a new request and builds it, unsaved
+    private VacationRequest newPendingRequest(Employee author, LocalDate startDate, LocalDate endDate, String operation) {
+        int requestedDays = workingDayCalendar.workingDaysBetween(startDate, endDate);
         if (requestedDays > author.getRemainingVacationDays()) {
+            metrics.recordRejection(operation, VacationMetrics.INSUFFICIENT_BALANCE);
             throw new NotEnoughVacationDaysException(
                     "Cannot create request: employee has only " + author.getRemainingVacationDays() + " remaining days"
             );
@@ -67,45 +257,114 @@ public class VacationService {
 
         VacationRequest newRequest = new VacationRequest();
         newRequest.setAuthor(author);
-        newRequest.setVacationStartDate(dto.getVacationStartDate());
-        newRequest.setVacationEndDate(dto.getVacationEndDate());
+        newRequest.setVacationStartDate(startDate);
+        newRequest.setVacationEndDate(endDate);
         newRequest.setStatus(Status.PENDING);
         newRequest.setResolved(false);
         newRequest.setRequestCreatedAt(LocalDateTime.now());
 
         if (hasOverlap(author, newRequest)) {
+            metrics.recordRejection(operation, VacationMetrics.OVERLAP);
             throw new NotEnoughVacationDaysException("Vacation request overlaps with an existing one.");
         }
-
-        return vacationRequestRepository.save(newRequest);
+        return newRequest;
     }
 
     // Process a vacation request (approve/reject) using DTO
     public VacationRequest processRequest(Long requestId, UpdateVacationRequestDTO dto) {
+        // A request never changes author, so it is safe to look the author up before locking
+        Long authorId = vacationRequestRepository.findAuthorIdById(requestId)
+                .orElseThrow(() -> new VacationRequestNotFoundException(requestId));
+        return employeeLocks.withLock(authorId,
+                () -> optimisticLockRetrier.inTransaction(() -> doProcessRequest(requestId, dto)));
+    }
+
+    private VacationRequest doProcessRequest(Long requestId, UpdateVacationRequestDTO dto) {
         VacationRequest request = getVacationRequestById(requestId);
 
         Employee manager = employeeRepository.findById(dto.getManagerId())
                 .orElseThrow(() -> new EmployeeNotFoundException(dto.getManagerId()));
 
-        request.setResolvedBy(manager);
-        request.setStatus(Status.valueOf(dto.getStatus().toUpperCase()));
-
+        applyDecision(request, manager, Status.valueOf(dto.getStatus().toUpperCase()));
         if (request.getStatus() == Status.APPROVED) {
+            employeeRepository.save(request.getAuthor());
+        }
+
+        VacationRequest saved = vacationRequestRepository.save(request);
+        onRequestWritten(saved, VacationRequestEvent.Type.STATUS_CHANGED);
+        return saved;
+    }
+
+    /**
+     * Applies many decisions of one manager in a single transaction. The requests and their authors
+     * are loaded with one fetch-join query, decisions are applied in order (so several approvals for
+     * the same author deduct from the running balance) and everything is flushed once at commit.
+     * Failing items are reported and leave their request untouched.
+     */
+    public List<BatchItemResultDTO> processRequests(BulkProcessRequestDTO dto) {
+        Set<Long> requestIds = dto.getDecisions().stream()
+                .map(ProcessDecisionDTO::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<Long> authorIds = vacationRequestRepository.findAuthorIdsByIdIn(requestIds);
+        return employeeLocks.withLocks(authorIds,
+                () -> optimisticLockRetrier.inTransaction(() -> doProcessRequests(dto, requestIds)));
+    }
+
+    private List<BatchItemResultDTO> doProcessRequests(BulkProcessRequestDTO dto, Set<Long> requestIds) {
+        Employee manager = employeeRepository.findById(dto.getManagerId())
+                .orElseThrow(() -> new EmployeeNotFoundException(dto.getManagerId()));
+
+        List<ProcessDecisionDTO> decisions = dto.getDecisions();
+        Map<Long, VacationRequest> requests = vacationRequestRepository.findAllWithAuthorByIdIn(requestIds).stream()
+                .collect(Collectors.toMap(VacationRequest::getId, Function.identity()));
+
+        List<BatchItemResultDTO> results = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            ProcessDecisionDTO decision = decisions.get(i);
+            try {
+                VacationRequest request = requests.get(decision.getRequestId());
+                if (request == null) {
+                    throw new VacationRequestNotFoundException(decision.getRequestId());
+                }
+                if (decision.getStatus() == null) {
+                    throw new IllegalArgumentException("Status is required");
+                }
+                applyDecision(request, manager, Status.valueOf(decision.getStatus().toUpperCase()));
+                onRequestWritten(request, VacationRequestEvent.Type.STATUS_CHANGED);
+                results.add(BatchItemResultDTO.succeeded(i, request.getId()));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResultDTO.failed(i, decision.getRequestId(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    // Checks the author's balance before touching anything, then records the decision
+    private void applyDecision(VacationRequest request, Employee manager, Status status) {
+        if (status == Status.APPROVED && request.getStatus() == Status.APPROVED) {
+            // Also keeps a retried approval from deducting the same days twice
+            throw new IllegalStateException("Vacation request has already been approved");
+        }
+        if (status == Status.APPROVED) {
             Employee author = request.getAuthor();
-            int requestedDays = (int) ChronoUnit.DAYS.between(request.getVacationStartDate(), request.getVacationEndDate()) + 1;
+            int requestedDays = workingDayCalendar.workingDaysBetween(request.getVacationStartDate(), request.getVacationEndDate());
 
             if (requestedDays > author.getRemainingVacationDays()) {
+                metrics.recordRejection("approve", VacationMetrics.INSUFFICIENT_BALANCE);
                 throw new NotEnoughVacationDaysException(
                         "Cannot approve: employee has only " + author.getRemainingVacationDays() + " remaining vacation days"
                 );
             }
 
             author.setRemainingVacationDays(author.getRemainingVacationDays() - requestedDays);
-            employeeRepository.save(author);
         }
 
+        Status previous = request.getStatus();
+        request.setResolvedBy(manager);
+        request.setStatus(status);
         request.setResolved(true);
-        return vacationRequestRepository.save(request);
+        dailyAbsenceLedger.onDecision(request, previous);
     }
 
     // --- NEW METHODS FOR TESTING & CONVENIENCE ---
@@ -124,44 +383,135 @@ public class VacationService {
     }
 
     // Get requests for an employee, optionally filtered by status
-    public List<VacationRequest> getRequestsForEmployee(Long employeeId, Status status) {
+    @Transactional(readOnly = true)
+    public List<VacationRequestSummaryDTO> getRequestsForEmployee(Long employeeId, Status status) {
+        replicaReads.allowFor(employeeId);
         if (status != null) {
-            return vacationRequestRepository.findByAuthorIdAndStatus(employeeId, status);
+            return vacationRequestRepository.findSummariesByAuthorIdAndStatus(employeeId, status);
         }
-        return vacationRequestRepository.findByAuthorId(employeeId);
+        return vacationRequestRepository.findSummariesByAuthorId(employeeId);
     }
 
     // Get all requests, optionally filtered by status
-    public List<VacationRequest> getAllRequests(Status status) {
-        if (status != null) {
-            return vacationRequestRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public List<VacationRequestSummaryDTO> getAllRequests(Status status) {
+        replicaReads.allow();
+        List<VacationRequestSummaryDTO> requests = status != null
+                ? vacationRequestRepository.findSummariesByStatus(status)
+                : vacationRequestRepository.findAllSummaries();
+        metrics.recordListed(status, requests.size());
+        return requests;
+    }
+
+    /**
+     * Returns one page of requests in (requestCreatedAt, id) order, optionally filtered by status.
+     * Each page is an index seek past the cursor, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public VacationRequestPageDTO getRequestsPage(Status status, String cursor, Integer size) {
+        replicaReads.allow();
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        // Fetch one extra row to learn whether another page follows
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<VacationRequestSummaryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status != null
+                    ? vacationRequestRepository.findPageByStatus(status, limit)
+                    : vacationRequestRepository.findPage(limit);
+        } else {
+            RequestCursor after = RequestCursor.decode(cursor);
+            rows = status != null
+                    ? vacationRequestRepository.findPageByStatusAfter(status, after.createdAt(), after.id(), limit)
+                    : vacationRequestRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<VacationRequestSummaryDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            VacationRequestSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = new RequestCursor(last.getRequestCreatedAt(), last.getId()).encode();
         }
-        return vacationRequestRepository.findAll();
+
+        return new VacationRequestPageDTO(page, nextCursor);
     }
     
+    /**
+     * Writes every matching request as one JSON document per line. Rows are streamed from a
+     * database cursor as flat summaries, so memory use does not depend on the row count.
+     */
+    @Transactional(readOnly = true)
+    public void exportRequests(Status status, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        exportRequests(status, from, to, objectMapper, out);
+    }
+
+    /**
+     * Same export in the format of the given mapper. Binary formats (CBOR, Smile) are written as
+     * a plain sequence of top-level values, which their parsers read back one by one.
+     */
+    @Transactional(readOnly = true)
+    public void exportRequests(Status status, LocalDate from, LocalDate to, ObjectMapper mapper, OutputStream out) throws IOException {
+        replicaReads.allow();
+        JsonGenerator generator = mapper.getFactory().createGenerator(out);
+        // Binary values are self-delimiting; only JSON needs the newline between documents
+        boolean newlineDelimited = !generator.canWriteBinaryNatively();
+        if (newlineDelimited) {
+            // The newline is written below; the CBOR and Smile generators do not support a separator at all
+            generator.setRootValueSeparator(null);
+        }
+        ObjectWriter writer = mapper.writerFor(VacationRequestSummaryDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<VacationRequestSummaryDTO> rows = vacationRequestRepository.streamForExport(status, from, to)) {
+            Iterator<VacationRequestSummaryDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (newlineDelimited) {
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+        generator.flush();
+    }
+
+    @Transactional(readOnly = true)
     public List<VacationRequest> getOverlappingRequestsForEmployee(Employee employee, LocalDate startDate, LocalDate endDate) {
-        List<VacationRequest> requests = vacationRequestRepository.findByAuthorId(employee.getId());
-        return requests.stream()
-                .filter(r -> r.getStatus() != VacationRequest.Status.REJECTED &&
-                        !(startDate.isAfter(r.getVacationEndDate()) || endDate.isBefore(r.getVacationStartDate()))
-                )
-                .toList();
+        replicaReads.allowFor(employee.getId());
+        // Most ranges overlap nothing; the index answers that without touching the table
+        if (!intervalIndex.hasOverlap(employee.getId(), startDate, endDate)) {
+            metrics.recordOverlapRows(0);
+            return List.of();
+        }
+        List<VacationRequest> overlapping = vacationRequestRepository.findOverlapping(employee.getId(), Status.REJECTED, startDate, endDate);
+        metrics.recordOverlapRows(overlapping.size());
+        return overlapping;
     }
     
+    // Cached per (employeeId, statusFilter, employee version); a write moves readers on to a new key
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEE_OVERVIEW_CACHE, keyGenerator = "employeeOverviewKeyGenerator")
+    @Transactional(readOnly = true)
     public EmployeeVacationOverviewDTO getEmployeeVacationOverview(Long employeeId, VacationRequest.Status statusFilter) {
+        // Right after their own write the employee reads from the primary, not the lagging replica
+        replicaReads.allowFor(employeeId);
+        // Read before the data: bumps follow commits, so everything below is at least this new
+        long version = employeeVersions.version(employeeId);
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
 
-        // Get all requests for this employee
-        List<VacationRequest> requests = vacationRequestRepository.findByAuthorId(employeeId);
+        List<VacationRequestSummaryDTO> requests = statusFilter != null
+                ? vacationRequestRepository.findSummariesByAuthorIdAndStatus(employeeId, statusFilter)
+                : vacationRequestRepository.findSummariesByAuthorId(employeeId);
 
-        return new EmployeeVacationOverviewDTO(
+        EmployeeVacationOverviewDTO overview = new EmployeeVacationOverviewDTO(
                 employee.getId(),
                 employee.getName(),
                 employee.getRole(), // optional
                 employee.getRemainingVacationDays(),
                 requests
         );
+        overview.setVersion(version);
+        return overview;
     }
 
 
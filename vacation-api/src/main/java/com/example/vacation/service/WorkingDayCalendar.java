@@ -0,0 +1,173 @@
+package com.example.vacation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts chargeable vacation days: days that are neither a configured weekend day nor a listed
+ * holiday. Each year is precomputed once into a bitset of working days with a running popcount
+ * per 64-day word, so counting a range costs two rank lookups per year it spans instead of a
+ * day-by-day loop.
+ *
+ * Holidays are read from a text file with one ISO date (yyyy-MM-dd) per line; blank lines and
+ * anything after '#' are ignored.
+ */
+@Component
+public class WorkingDayCalendar {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkingDayCalendar.class);
+
+    private final Set<DayOfWeek> weekendDays;
+    private final Set<LocalDate> holidays;
+    private final ConcurrentMap<Integer, YearBits> years = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WorkingDayCalendar(@Value("${vacation.calendar.weekend-days:SATURDAY,SUNDAY}") String weekendDays,
+                              @Value("${vacation.calendar.holidays-file:classpath:holidays.txt}") Resource holidaysFile) {
+        this(parseWeekendDays(weekendDays), readHolidays(holidaysFile));
+    }
+
+    public WorkingDayCalendar(Set<DayOfWeek> weekendDays, Set<LocalDate> holidays) {
+        this.weekendDays = weekendDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekendDays);
+        this.holidays = Set.copyOf(holidays);
+    }
+
+    /**
+     * Working days in [start, end], both inclusive; zero when end is before start.
+     */
+    public int workingDaysBetween(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return 0;
+        }
+        if (start.getYear() == end.getYear()) {
+            return year(start.getYear()).count(start.getDayOfYear() - 1, end.getDayOfYear());
+        }
+
+        int days = year(start.getYear()).count(start.getDayOfYear() - 1, start.lengthOfYear());
+        for (int y = start.getYear() + 1; y < end.getYear(); y++) {
+            days += year(y).total();
+        }
+        return days + year(end.getYear()).count(0, end.getDayOfYear());
+    }
+
+    public boolean isWorkingDay(LocalDate day) {
+        return year(day.getYear()).isSet(day.getDayOfYear() - 1);
+    }
+
+    private YearBits year(int year) {
+        return years.computeIfAbsent(year, this::buildYear);
+    }
+
+    private YearBits buildYear(int year) {
+        LocalDate day = LocalDate.of(year, 1, 1);
+        int length = day.lengthOfYear();
+        long[] words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++, day = day.plusDays(1)) {
+            if (!weekendDays.contains(day.getDayOfWeek()) && !holidays.contains(day)) {
+                words[i >>> 6] |= 1L << (i & 63);
+            }
+        }
+        return new YearBits(words);
+    }
+
+    /**
+     * Working-day bits of one year (bit i = day-of-year i + 1) and, for each word, the number of
+     * working days in all earlier words.
+     */
+    private static final class YearBits {
+
+        private final long[] words;
+        private final int[] before;
+
+        YearBits(long[] words) {
+            this.words = words;
+            this.before = new int[words.length + 1];
+            for (int w = 0; w < words.length; w++) {
+                before[w + 1] = before[w] + Long.bitCount(words[w]);
+            }
+        }
+
+        // Working days among day indexes [from, to)
+        int count(int from, int to) {
+            return rank(to) - rank(from);
+        }
+
+        int total() {
+            return before[words.length];
+        }
+
+        boolean isSet(int index) {
+            return (words[index >>> 6] & (1L << (index & 63))) != 0;
+        }
+
+        // Working days among day indexes [0, index)
+        private int rank(int index) {
+            int word = index >>> 6;
+            if (word == words.length) {
+                return before[word];
+            }
+            return before[word] + Long.bitCount(words[word] & ((1L << (index & 63)) - 1));
+        }
+    }
+
+    private static Set<DayOfWeek> parseWeekendDays(String weekendDays) {
+        if (weekendDays == null || weekendDays.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        Arrays.stream(weekendDays.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .forEach(s -> days.add(DayOfWeek.valueOf(s.toUpperCase())));
+        return days;
+    }
+
+    private static Set<LocalDate> readHolidays(Resource file) {
+        if (file == null || !file.exists()) {
+            log.info("No holidays file found, only weekend days are excluded");
+            return Collections.emptySet();
+        }
+        Set<LocalDate> holidays = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String value = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    holidays.add(LocalDate.parse(value));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalStateException("Invalid holiday '" + value + "' on line " + lineNumber + " of " + file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read holidays file " + file, e);
+        }
+        log.info("Loaded {} holidays from {}", holidays.size(), file);
+        return holidays;
+    }
+}
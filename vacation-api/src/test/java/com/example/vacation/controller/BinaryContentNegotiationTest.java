@@ -0,0 +1,170 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.config.BinaryFormatsConfig;
+import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BinaryContentNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        cborMapper = objectMapper.copyWith(new CBORFactory());
+        smileMapper = objectMapper.copyWith(new SmileFactory());
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        List<VacationRequest> requests = new ArrayList<>();
+        for (int month = 1; month <= 4; month++) {
+            VacationRequest request = new VacationRequest();
+            request.setAuthor(employee);
+            request.setVacationStartDate(LocalDate.of(2026, month, 10));
+            request.setVacationEndDate(LocalDate.of(2026, month, 12));
+            request.setStatus(month % 2 == 0 ? Status.APPROVED : Status.PENDING);
+            requests.add(request);
+        }
+        vacationRequestRepository.saveAll(requests);
+    }
+
+    private byte[] fetch(String url, MediaType accept) throws Exception {
+        return mockMvc.perform(get(url, employee.getId()).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Test
+    public void testOverviewIsServedAsCborAndSmile() throws Exception {
+        for (String url : new String[]{"/api/employee/{id}/overview", "/api/manager/employees/{id}/overview"}) {
+            EmployeeVacationOverviewDTO json = objectMapper.readValue(
+                    fetch(url, MediaType.APPLICATION_JSON), EmployeeVacationOverviewDTO.class);
+            EmployeeVacationOverviewDTO cbor = cborMapper.readValue(
+                    fetch(url, MediaType.APPLICATION_CBOR), EmployeeVacationOverviewDTO.class);
+            EmployeeVacationOverviewDTO smile = smileMapper.readValue(
+                    fetch(url, BinaryFormatsConfig.APPLICATION_SMILE), EmployeeVacationOverviewDTO.class);
+
+            for (EmployeeVacationOverviewDTO overview : List.of(cbor, smile)) {
+                assertEquals(json.getEmployeeId(), overview.getEmployeeId());
+                assertEquals("Alice Employee", overview.getName());
+                assertEquals(4, overview.getVacationRequests().size());
+                assertEquals(LocalDate.of(2026, 1, 10), overview.getVacationRequests().get(0).getVacationStartDate());
+            }
+        }
+    }
+
+    @Test
+    public void testListsAreServedAsCborAndSmile() throws Exception {
+        JavaType listType = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, VacationRequestSummaryDTO.class);
+
+        List<VacationRequestSummaryDTO> employeeList = cborMapper.readValue(
+                fetch("/api/employee/{id}/requests", MediaType.APPLICATION_CBOR), listType);
+        List<VacationRequestSummaryDTO> managerList = smileMapper.readValue(
+                fetch("/api/manager/requests", BinaryFormatsConfig.APPLICATION_SMILE), listType);
+
+        assertEquals(4, employeeList.size());
+        assertEquals(4, managerList.size());
+        assertEquals("Alice Employee", managerList.get(0).getAuthorName());
+    }
+
+    @Test
+    public void testJsonRemainsTheDefault() throws Exception {
+        mockMvc.perform(get("/api/employee/{id}/overview", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Alice Employee"));
+    }
+
+    @Test
+    public void testExportIsServedAsCborAndSmileSequences() throws Exception {
+        for (ObjectMapper mapper : List.of(cborMapper, smileMapper)) {
+            MediaType accept = mapper == cborMapper ? MediaType.APPLICATION_CBOR : BinaryFormatsConfig.APPLICATION_SMILE;
+            MvcResult started = mockMvc.perform(get("/api/manager/requests/export")
+                            .param("status", "approved")
+                            .accept(accept))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            byte[] body = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(accept))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            List<VacationRequestSummaryDTO> rows = new ArrayList<>();
+            try (MappingIterator<VacationRequestSummaryDTO> values =
+                         mapper.readerFor(VacationRequestSummaryDTO.class).readValues(body)) {
+                values.forEachRemaining(rows::add);
+            }
+            assertEquals(2, rows.size(), accept.toString());
+            assertTrue(rows.stream().allMatch(row -> row.getStatus() == Status.APPROVED));
+        }
+    }
+
+    @Test
+    public void testRepresentationsDoNotShareAnEtag() throws Exception {
+        String json = mockMvc.perform(get("/api/employee/{id}/overview", employee.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(get("/api/employee/{id}/overview", employee.getId())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(json, cbor);
+        mockMvc.perform(get("/api/employee/{id}/overview", employee.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employee/{id}/overview", employee.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequestEvent;
+import com.example.vacation.exception.NotEnoughVacationDaysException;
+import com.example.vacation.repository.ChangeFeedHeadRepository;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestEventRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.ChangeFeed;
+import com.example.vacation.service.VacationService;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationRequestEventRepository eventRepository;
+
+    @Autowired
+    private ChangeFeedHeadRepository headRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Employee employee;
+    private Employee manager;
+    private long start;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+
+        start = changeFeed.latestSequence();
+    }
+
+    private VacationRequest create(LocalDate from, LocalDate to) {
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(from);
+        dto.setVacationEndDate(to);
+        return vacationService.createRequest(dto);
+    }
+
+    private MvcResult changes(long after, long waitMs) throws Exception {
+        return mockMvc.perform(get("/api/changes")
+                        .param("after", String.valueOf(after))
+                        .param("waitMs", String.valueOf(waitMs)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    public void testCreateAndApprovalAppearInOrder() throws Exception {
+        VacationRequest request = create(LocalDate.of(2032, 3, 1), LocalDate.of(2032, 3, 3));
+        vacationService.approveVacationRequest(request.getId(), manager);
+
+        mockMvc.perform(asyncDispatch(changes(start, 0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.events[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.events[0].requestId").value(request.getId()))
+                .andExpect(jsonPath("$.events[1].type").value("STATUS_CHANGED"))
+                .andExpect(jsonPath("$.events[1].status").value("APPROVED"))
+                .andExpect(jsonPath("$.events[1].employeeId").value(employee.getId()))
+                .andExpect(jsonPath("$.nextAfter").value(start + 2));
+
+        mockMvc.perform(asyncDispatch(changes(start + 2, 0)))
+                .andExpect(jsonPath("$.events.length()").value(0))
+                .andExpect(jsonPath("$.nextAfter").value(start + 2));
+    }
+
+    @Test
+    public void testRejectedCreateLeavesNoEvent() {
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(LocalDate.of(2032, 5, 3));
+        dto.setVacationEndDate(LocalDate.of(2032, 5, 28));
+
+        assertThrows(NotEnoughVacationDaysException.class, () -> vacationService.createRequest(dto));
+        assertTrue(changeFeed.read(start, null).getEvents().isEmpty());
+    }
+
+    @Test
+    public void testLongPollIsAnsweredByTheNextCommit() throws Exception {
+        MvcResult waiting = changes(start, 10_000);
+
+        VacationRequest request = create(LocalDate.of(2032, 4, 5), LocalDate.of(2032, 4, 6));
+
+        mockMvc.perform(asyncDispatch(waiting))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].requestId").value(request.getId()));
+    }
+
+    @Test
+    public void testLongPollTimesOutWithEmptyPage() throws Exception {
+        MvcResult waiting = changes(start, 10_000);
+        // MockMvc has no container to fire the timeout, so play its part
+        for (AsyncListener listener : ((MockAsyncContext) waiting.getRequest().getAsyncContext()).getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        mockMvc.perform(asyncDispatch(waiting))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(0))
+                .andExpect(jsonPath("$.nextAfter").value(start));
+    }
+
+    @Test
+    public void testSequencesContinueAfterAnotherWritersCommit() {
+        VacationRequest request = create(LocalDate.of(2032, 6, 7), LocalDate.of(2032, 6, 8));
+
+        // What a second instance sharing the database does for one event of its own
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            headRepository.advance(1);
+            VacationRequestEvent event = new VacationRequestEvent(VacationRequestEvent.Type.STATUS_CHANGED, request);
+            event.setSequence(headRepository.findLastSequence().orElseThrow());
+            eventRepository.save(event);
+        });
+
+        vacationService.approveVacationRequest(request.getId(), manager);
+
+        List<VacationRequestEvent> events = changeFeed.read(start, null).getEvents();
+        assertEquals(3, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(start + 1 + i, events.get(i).getSequence());
+        }
+        assertEquals(start + 3, changeFeed.latestSequence());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.config.CacheConfig;
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.EmployeeOverviewKeyGenerator;
+import com.example.vacation.service.EmployeeVersions;
+import com.example.vacation.service.VacationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+public class ConditionalGetTest {
+
+    private static final String[] URLS = {
+            "/api/employee/{id}/overview",
+            "/api/employee/{id}/requests",
+            "/api/manager/employees/{id}/overview"
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
+    private Employee employee;
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url, employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertFalse(etag.startsWith("W/"), "tags are strong");
+        return etag;
+    }
+
+    @Test
+    public void testUnchangedResourceIs304WithoutQueries() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String url : URLS) {
+            String etag = etag(url);
+
+            long before = statistics.getPrepareStatementCount();
+            String body = mockMvc.perform(get(url, employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andReturn().getResponse().getContentAsString();
+
+            assertEquals("", body, url);
+            assertEquals(before, statistics.getPrepareStatementCount(), "no SQL for a 304 on " + url);
+        }
+    }
+
+    @Test
+    public void testCreateAndDecisionChangeTheTag() throws Exception {
+        String[] before = new String[URLS.length];
+        for (int i = 0; i < URLS.length; i++) {
+            before[i] = etag(URLS[i]);
+        }
+
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(LocalDate.of(2035, 3, 5));
+        dto.setVacationEndDate(LocalDate.of(2035, 3, 6));
+        Long requestId = vacationService.createRequest(dto).getId();
+
+        for (int i = 0; i < URLS.length; i++) {
+            mockMvc.perform(get(URLS[i], employee.getId()).header(HttpHeaders.IF_NONE_MATCH, before[i]))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").isNotEmpty());
+        }
+        String afterCreate = etag(URLS[0]);
+        assertNotEquals(before[0], afterCreate);
+
+        vacationService.approveVacationRequest(requestId, manager);
+
+        mockMvc.perform(get(URLS[0], employee.getId()).header(HttpHeaders.IF_NONE_MATCH, afterCreate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingVacationDays").value(8));
+    }
+
+    @Test
+    public void testTagsArePerEmployee() throws Exception {
+        String etag = etag(URLS[0]);
+
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(manager.getId());
+        dto.setVacationStartDate(LocalDate.of(2035, 4, 2));
+        dto.setVacationEndDate(LocalDate.of(2035, 4, 3));
+        vacationService.createRequest(dto);
+
+        mockMvc.perform(get(URLS[0], employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testOverviewIsTaggedWithTheVersionItWasBuiltFrom() throws Exception {
+        EmployeeVacationOverviewDTO stale = vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        String staleTag = etag(URLS[0]);
+
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(LocalDate.of(2035, 5, 7));
+        dto.setVacationEndDate(LocalDate.of(2035, 5, 8));
+        vacationService.createRequest(dto);
+        // An overview built before the write, found in the cache under the new version
+        cacheManager.getCache(CacheConfig.EMPLOYEE_OVERVIEW_CACHE).put(
+                EmployeeOverviewKeyGenerator.key(employee.getId(), null, employeeVersions.version(employee.getId())), stale);
+
+        String current = employeeVersions.etag(employee.getId());
+        assertNotEquals(staleTag, current);
+        mockMvc.perform(get(URLS[0], employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, staleTag));
+    }
+}
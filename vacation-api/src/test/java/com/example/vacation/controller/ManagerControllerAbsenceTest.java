@@ -0,0 +1,101 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.DailyAbsenceLedger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerAbsenceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        Employee alice = employee("Alice Employee", "EMPLOYEE");
+        Employee bob = employee("Bob Manager", "MANAGER");
+
+        request(alice, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 3), Status.APPROVED);
+        request(bob, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 2), Status.APPROVED);
+        request(bob, LocalDate.of(2025, 9, 4), LocalDate.of(2025, 9, 5), Status.PENDING);
+        request(alice, LocalDate.of(2025, 9, 5), LocalDate.of(2025, 9, 5), Status.REJECTED);
+
+        // Rows were saved directly, bypassing the approval path that maintains the table
+        dailyAbsenceLedger.rebuild();
+    }
+
+    @Test
+    public void testApprovedAbsencesPerDay() throws Exception {
+        mockMvc.perform(get("/api/manager/absences/daily")
+                        .param("from", "2025-09-01")
+                        .param("to", "2025-09-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(5))
+                .andExpect(jsonPath("$.days[*].absent").value(contains(1, 2, 1, 0, 0)));
+    }
+
+    @Test
+    public void testIncludePendingAndRoleFilter() throws Exception {
+        mockMvc.perform(get("/api/manager/absences/daily")
+                        .param("from", "2025-09-01")
+                        .param("to", "2025-09-05")
+                        .param("role", "manager")
+                        .param("includePending", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("MANAGER"))
+                .andExpect(jsonPath("$.days[*].absent").value(contains(0, 1, 0, 1, 1)));
+    }
+
+    @Test
+    public void testInvertedRangeIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/manager/absences/daily")
+                        .param("from", "2025-09-05")
+                        .param("to", "2025-09-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Employee employee(String name, String role) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole(role);
+        return employeeRepository.save(employee);
+    }
+
+    private void request(Employee author, LocalDate start, LocalDate end, Status status) {
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(author);
+        request.setVacationStartDate(start);
+        request.setVacationEndDate(end);
+        request.setStatus(status);
+        request.setResolved(status != Status.PENDING);
+        vacationRequestRepository.save(request);
+    }
+}
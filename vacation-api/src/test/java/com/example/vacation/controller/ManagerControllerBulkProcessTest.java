@@ -0,0 +1,132 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.BulkProcessRequestDTO;
+import com.example.vacation.dto.ProcessDecisionDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerBulkProcessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    private VacationRequest pending(LocalDate start, LocalDate end) {
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(employee);
+        request.setVacationStartDate(start);
+        request.setVacationEndDate(end);
+        request.setStatus(Status.PENDING);
+        return vacationRequestRepository.save(request);
+    }
+
+    @Test
+    public void testDecisionsAreAppliedInOrderAgainstRunningBalance() throws Exception {
+        VacationRequest fiveDays = pending(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5));
+        VacationRequest fourDays = pending(LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 9));
+        VacationRequest threeDays = pending(LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 5));
+
+        BulkProcessRequestDTO dto = new BulkProcessRequestDTO();
+        dto.setManagerId(manager.getId());
+        dto.setDecisions(List.of(
+                new ProcessDecisionDTO(fiveDays.getId(), "APPROVED"),
+                new ProcessDecisionDTO(fourDays.getId(), "approved"),
+                new ProcessDecisionDTO(threeDays.getId(), "APPROVED"), // only 1 day left
+                new ProcessDecisionDTO(-1L, "APPROVED"),
+                new ProcessDecisionDTO(threeDays.getId(), "REJECTED")
+        ));
+
+        mockMvc.perform(put("/api/manager/requests/process")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].success").value(true))
+                .andExpect(jsonPath("$[2].success").value(false))
+                .andExpect(jsonPath("$[3].success").value(false))
+                .andExpect(jsonPath("$[3].requestId").value(-1))
+                .andExpect(jsonPath("$[4].success").value(true));
+
+        assertEquals(1, employeeRepository.findById(employee.getId()).get().getRemainingVacationDays());
+        assertEquals(Status.APPROVED, vacationRequestRepository.findById(fiveDays.getId()).get().getStatus());
+        assertEquals(Status.APPROVED, vacationRequestRepository.findById(fourDays.getId()).get().getStatus());
+        VacationRequest rejected = vacationRequestRepository.findById(threeDays.getId()).get();
+        assertEquals(Status.REJECTED, rejected.getStatus());
+        assertEquals(manager.getId(), rejected.getResolvedBy().getId());
+    }
+
+    @Test
+    public void testUnknownManagerFailsWholeCall() throws Exception {
+        BulkProcessRequestDTO dto = new BulkProcessRequestDTO();
+        dto.setManagerId(-1L);
+        dto.setDecisions(List.of());
+
+        mockMvc.perform(put("/api/manager/requests/process")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testMissingDecisionsOrNullDecisionIsBadRequest() throws Exception {
+        String[] bodies = {
+                "{\"managerId\": " + manager.getId() + "}",
+                "{\"managerId\": " + manager.getId() + ", \"decisions\": [null]}",
+                "{\"decisions\": [{\"requestId\": 1, \"status\": \"APPROVED\"}]}"
+        };
+        for (String body : bodies) {
+            mockMvc.perform(put("/api/manager/requests/process")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employeeRepository.save(employee);
+
+        List<VacationRequest> requests = new ArrayList<>();
+        for (int month = 1; month <= 6; month++) {
+            VacationRequest request = new VacationRequest();
+            request.setAuthor(employee);
+            request.setVacationStartDate(LocalDate.of(2025, month, 10));
+            request.setVacationEndDate(LocalDate.of(2025, month, 12));
+            request.setStatus(month % 2 == 0 ? Status.APPROVED : Status.PENDING);
+            requests.add(request);
+        }
+        vacationRequestRepository.saveAll(requests);
+    }
+
+    private String[] export(String... params) throws Exception {
+        var builder = get("/api/manager/requests/export");
+        for (int i = 0; i < params.length; i += 2) {
+            builder.param(params[i], params[i + 1]);
+        }
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        return body.isEmpty() ? new String[0] : body.split("\n");
+    }
+
+    @Test
+    public void testExportsOneJsonDocumentPerLine() throws Exception {
+        String[] lines = export();
+
+        assertEquals(6, lines.length);
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertEquals(employee.getId(), row.get("authorId").asLong());
+            assertEquals("Alice Employee", row.get("authorName").asText());
+        }
+    }
+
+    @Test
+    public void testExportAppliesStatusAndDateRangeFilters() throws Exception {
+        String[] lines = export("status", "approved", "from", "2025-03-01", "to", "2025-05-31");
+
+        // Only the April request is approved inside March..May
+        assertEquals(1, lines.length);
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertEquals("APPROVED", row.get("status").asText());
+        assertEquals("2025-04-10", row.get("vacationStartDate").asText());
+    }
+
+    @Test
+    public void testWildcardAcceptGetsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/manager/requests/export").accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(6, body.split("\n").length);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerPagingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        Employee employee = new Employee();
+        employee.setName("Alice Employee");
+        employeeRepository.save(employee);
+
+        // Two requests share a timestamp so the id tie-breaker is exercised
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 9, 0);
+        List<VacationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            VacationRequest request = new VacationRequest();
+            request.setAuthor(employee);
+            request.setVacationStartDate(LocalDate.of(2025, 9, 1).plusDays(i * 7));
+            request.setVacationEndDate(LocalDate.of(2025, 9, 2).plusDays(i * 7));
+            request.setStatus(i % 2 == 0 ? Status.PENDING : Status.APPROVED);
+            request.setRequestCreatedAt(i < 2 ? createdAt : createdAt.plusHours(i));
+            requests.add(request);
+        }
+        vacationRequestRepository.saveAll(requests);
+    }
+
+    @Test
+    public void testPagesThroughAllRequestsWithoutDuplicates() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/manager/requests/page").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+    }
+
+    @Test
+    public void testStatusFilteredPage() throws Exception {
+        mockMvc.perform(get("/api/manager/requests/page")
+                        .param("status", "approved")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/manager/requests/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.VacationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    private Employee employee;
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    private String awaitBody(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = stream.getResponse().getContentAsString();
+        while (!body.contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "stream did not receive " + expected + ", got: " + body);
+            Thread.sleep(10);
+            body = stream.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    @Test
+    public void testPushesCreatedAndProcessedRequests() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/manager/requests/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(LocalDate.of(2034, 2, 6));
+        dto.setVacationEndDate(LocalDate.of(2034, 2, 7));
+        VacationRequest created = vacationService.createRequest(dto);
+
+        String body = awaitBody(stream, "event:CREATED");
+        assertTrue(body.contains("\"requestId\":" + created.getId()));
+        assertTrue(body.contains("\"status\":\"PENDING\""));
+
+        vacationService.approveVacationRequest(created.getId(), manager);
+
+        body = awaitBody(stream, "event:STATUS_CHANGED");
+        assertTrue(body.contains("\"status\":\"APPROVED\""));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class PrometheusMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(2);
+        employeeRepository.save(employee);
+    }
+
+    @Test
+    public void testScrapeExposesServiceTimersAndDomainMeters() throws Exception {
+        mockMvc.perform(get("/api/manager/requests").param("status", "pending"))
+                .andExpect(status().isOk());
+
+        // Three working days (Fri..Tue) against a balance of two
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(LocalDate.of(2030, 3, 1));
+        dto.setVacationEndDate(LocalDate.of(2030, 3, 5));
+        mockMvc.perform(post("/api/employee/requests")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("vacation_service_seconds_count{"), "per-method service timers");
+        assertTrue(scrape.contains("method=\"getAllRequests\""));
+        assertTrue(scrape.contains("method=\"createRequest\""));
+        assertTrue(scrape.contains("vacation_requests_listed_rows_count{"));
+        assertTrue(scrape.contains("vacation_requests_rejected_total{"));
+        assertTrue(scrape.contains("reason=\"insufficient_balance\""));
+        assertTrue(scrape.contains("vacation_optimistic_lock_conflicts_total"));
+        assertTrue(scrape.contains("hikaricp_connections"), "connection pool metrics");
+    }
+}
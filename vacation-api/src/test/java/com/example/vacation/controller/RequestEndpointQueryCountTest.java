@@ -0,0 +1,166 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.config.CacheConfig;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.VacationRequestIntervalIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pins the number of SQL statements each read endpoint issues. The counts must not
+ * grow with the number of requests, authors or resolving managers in the table.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+public class RequestEndpointQueryCountTest {
+
+    private static final int EMPLOYEES = 5;
+    private static final int REQUESTS_PER_EMPLOYEE = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationRequestIntervalIndex intervalIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Employee> employees = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        employees.clear();
+
+        // One manager per employee, so a per-row resolver lookup would show up as extra statements
+        List<VacationRequest> requests = new ArrayList<>();
+        for (int e = 0; e < EMPLOYEES; e++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + e);
+            employees.add(employeeRepository.save(employee));
+
+            Employee manager = new Employee();
+            manager.setName("Manager " + e);
+            manager.setRole("MANAGER");
+            employeeRepository.save(manager);
+
+            for (int i = 0; i < REQUESTS_PER_EMPLOYEE; i++) {
+                VacationRequest request = new VacationRequest();
+                request.setAuthor(employee);
+                request.setVacationStartDate(LocalDate.of(2025, 9, 1).plusDays(i * 7));
+                request.setVacationEndDate(LocalDate.of(2025, 9, 2).plusDays(i * 7));
+                if (i % 2 == 0) {
+                    request.setStatus(Status.APPROVED);
+                    request.setResolvedBy(manager);
+                    request.setResolved(true);
+                }
+                requests.add(request);
+            }
+        }
+        vacationRequestRepository.saveAll(requests);
+
+        intervalIndex.rebuild();
+        cacheManager.getCache(CacheConfig.EMPLOYEE_OVERVIEW_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testManagerListingIsOneStatement() throws Exception {
+        assertStatements(1, get("/api/manager/requests"));
+        assertStatements(1, get("/api/manager/requests").param("status", "approved"));
+    }
+
+    @Test
+    public void testManagerPageIsOneStatement() throws Exception {
+        assertStatements(1, get("/api/manager/requests/page").param("size", "7"));
+    }
+
+    @Test
+    public void testEmployeeListingIsOneStatement() throws Exception {
+        Long employeeId = employees.get(0).getId();
+        assertStatements(1, get("/api/employee/{id}/requests", employeeId));
+        assertStatements(1, get("/api/employee/{id}/requests", employeeId).param("status", "approved"));
+    }
+
+    @Test
+    public void testOverviewIsEmployeePlusRequests() throws Exception {
+        assertStatements(2, get("/api/employee/{id}/overview", employees.get(0).getId()));
+    }
+
+    @Test
+    public void testOverlappingRequestsAreEmployeePlusRequests() throws Exception {
+        // The employee lookup, then one fetch-join select; resolvers are serialized without extra selects
+        assertStatements(2, get("/api/employee/{id}/overlapping-requests", employees.get(0).getId())
+                .param("start", "2025-09-01")
+                .param("end", "2025-09-30"));
+    }
+
+    @Test
+    public void testEntityFindersFetchAuthorAndResolverInOneSelect() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<VacationRequest> all = vacationRequestRepository.findAll();
+            List<VacationRequest> approved = vacationRequestRepository.findByStatus(Status.APPROVED);
+            List<VacationRequest> own = vacationRequestRepository.findByAuthorId(employees.get(0).getId());
+
+            assertEquals(EMPLOYEES * REQUESTS_PER_EMPLOYEE, all.size());
+            for (VacationRequest request : all) {
+                assertTrue(Hibernate.isInitialized(request.getAuthor()));
+                assertTrue(request.getResolvedBy() == null || Hibernate.isInitialized(request.getResolvedBy()));
+            }
+            assertFalse(approved.isEmpty());
+            assertEquals(REQUESTS_PER_EMPLOYEE, own.size());
+        });
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private void assertStatements(long expected, RequestBuilder request) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        mockMvc.perform(request).andExpect(status().isOk());
+        long issued = statistics.getPrepareStatementCount() - before;
+        assertEquals(expected, issued, "Unexpected statement count for " + request);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.vacation.controller;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class VacationRequestControllerBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+    }
+
+    private CreateVacationRequestDTO dto(Long authorId, LocalDate start, LocalDate end) {
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(authorId);
+        dto.setVacationStartDate(start);
+        dto.setVacationEndDate(end);
+        return dto;
+    }
+
+    @Test
+    public void testBatchReportsPerItemOutcome() throws Exception {
+        List<CreateVacationRequestDTO> batch = List.of(
+                dto(employee.getId(), LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5)),
+                // overlaps the first item of the same batch
+                dto(employee.getId(), LocalDate.of(2025, 9, 4), LocalDate.of(2025, 9, 6)),
+                dto(-1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2)),
+                // more days than the employee has left
+                dto(employee.getId(), LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 20)),
+                dto(employee.getId(), LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 4))
+        );
+
+        mockMvc.perform(post("/api/employee/requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].requestId").isNumber())
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[2].success").value(false))
+                .andExpect(jsonPath("$[3].success").value(false))
+                .andExpect(jsonPath("$[4].success").value(true))
+                .andExpect(jsonPath("$[4].index").value(4));
+
+        assertEquals(2, vacationRequestRepository.findByAuthorId(employee.getId()).size());
+    }
+
+    @Test
+    public void testBatchRejectsOverlapWithExistingRequest() throws Exception {
+        List<CreateVacationRequestDTO> first = List.of(
+                dto(employee.getId(), LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5)));
+        List<CreateVacationRequestDTO> second = List.of(
+                dto(employee.getId(), LocalDate.of(2025, 9, 5), LocalDate.of(2025, 9, 6)));
+
+        mockMvc.perform(post("/api/employee/requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true));
+
+        mockMvc.perform(post("/api/employee/requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(false))
+                .andExpect(jsonPath("$[0].error").value("Vacation request overlaps with an existing one."));
+    }
+
+    @Test
+    public void testNullItemOrEmptyBatchIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/employee/requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/employee/requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(vacationRequestRepository.findByAuthorId(employee.getId()).isEmpty());
+    }
+}
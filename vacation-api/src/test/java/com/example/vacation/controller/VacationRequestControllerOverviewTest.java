@@ -1,9 +1,11 @@
 package com.example.vacation.controller;
 
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.entity.Employee;
 import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.service.EmployeeVersions;
 import com.example.vacation.service.VacationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +32,9 @@ public class VacationRequestControllerOverviewTest {
     @MockBean
     private VacationService vacationService;
 
+    @MockBean
+    private EmployeeVersions employeeVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -58,7 +63,7 @@ public class VacationRequestControllerOverviewTest {
                 employee.getName(),
                 employee.getRole(),
                 employee.getRemainingVacationDays(),
-                List.of(request)
+                List.of(VacationRequestSummaryDTO.from(request))
         );
 
         when(vacationService.getEmployeeVacationOverview(1L, (Status) null)).thenReturn(overviewDTO);
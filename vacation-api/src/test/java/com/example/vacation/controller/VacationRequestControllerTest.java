@@ -7,6 +7,7 @@ import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.entity.VacationRequest.Status;
 import com.example.vacation.service.VacationService;
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.repository.EmployeeRepository;
 import com.example.vacation.repository.VacationRequestRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -217,7 +218,7 @@ public class VacationRequestControllerTest {
                 employee.getName(),
                 employee.getRole(),
                 employee.getRemainingVacationDays(),
-                List.of(request)
+                List.of(VacationRequestSummaryDTO.from(request))
         );
 
         when(vacationService.getEmployeeVacationOverview(Long.valueOf(1L), Status.PENDING))
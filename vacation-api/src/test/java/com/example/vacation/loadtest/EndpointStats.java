@@ -0,0 +1,82 @@
+package com.example.vacation.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters of one endpoint. Latencies are measured from the
+ * intended arrival time, so time spent queued behind a slow server is part of the number.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos, int statusCode) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (statusCode >= 500) {
+            serverErrors.increment();
+        } else if (statusCode >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    // Transport errors and timeouts; the request never got a status code
+    void recordFailure(long latencyNanos) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        failures.increment();
+    }
+
+    // Arrivals that had nothing to act on, e.g. a process with no pending request left
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    static String header() {
+        return String.format("%-10s %8s %9s %6s %6s %6s %6s %9s %9s %9s %9s %9s",
+                "endpoint", "count", "req/s", "4xx", "5xx", "fail", "skip",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    String format(long elapsedNanos) {
+        return String.format("%-10s %8d %9.1f %6d %6d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, count(), count() / (elapsedNanos / 1e9),
+                clientErrors.sum(), serverErrors.sum(), failures.sum(), skipped.sum(),
+                millis(latencyMicros.getValueAtPercentile(50)),
+                millis(latencyMicros.getValueAtPercentile(90)),
+                millis(latencyMicros.getValueAtPercentile(99)),
+                millis(latencyMicros.getValueAtPercentile(99.9)),
+                millis(latencyMicros.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.vacation.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Fires requests at a fixed arrival rate regardless of how fast responses come back (open loop),
+ * picking each request from a weighted mix. Arrivals are executed by a fixed pool of workers, so
+ * once the server falls behind they queue up and the queueing shows in the recorded latencies.
+ */
+final class OpenLoopDriver {
+
+    /**
+     * One endpoint of the mix. {@code request} may return null when there is nothing to do,
+     * {@code onResponse} lets the workload feed ids from responses back into later requests.
+     */
+    record Operation(String name, int weight, Supplier<HttpRequest> request, Consumer<HttpResponse<String>> onResponse) {
+    }
+
+    record Result(List<EndpointStats> endpoints, long elapsedNanos) {
+
+        void print(PrintStream out) {
+            out.println(EndpointStats.header());
+            long total = 0;
+            for (EndpointStats endpoint : endpoints) {
+                out.println(endpoint.format(elapsedNanos));
+                total += endpoint.count();
+            }
+            out.printf("total %d requests in %.1f s, %.1f req/s%n", total, elapsedNanos / 1e9, total / (elapsedNanos / 1e9));
+        }
+    }
+
+    private final HttpClient client;
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final int concurrency;
+    private final double ratePerSecond;
+
+    OpenLoopDriver(HttpClient client, List<Operation> operations, int concurrency, double ratePerSecond) {
+        this.client = client;
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        this.concurrency = concurrency;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    Result run(Duration duration) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new EndpointStats(operation.name())));
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        // Arrival times are fixed up front; a late scheduler catches up instead of stretching the run
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick();
+            long arrival = intended;
+            workers.execute(() -> execute(operation, arrival, stats.get(operation.name())));
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+        return new Result(List.copyOf(stats.values()), System.nanoTime() - start);
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private void execute(Operation operation, long arrival, EndpointStats stats) {
+        HttpRequest request = operation.request().get();
+        if (request == null) {
+            stats.recordSkipped();
+            return;
+        }
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(System.nanoTime() - arrival, response.statusCode());
+            operation.onResponse().accept(response);
+        } catch (IOException e) {
+            stats.recordFailure(System.nanoTime() - arrival);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
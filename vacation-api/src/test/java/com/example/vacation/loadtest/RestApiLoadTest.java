@@ -0,0 +1,257 @@
+package com.example.vacation.loadtest;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import com.example.vacation.service.VacationRequestIntervalIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a mixed workload through the real HTTP stack of an embedded server on an in-memory
+ * database and prints per-endpoint throughput and latency percentiles.
+ * Run with {@code mvn test -Dloadtest=true -Dtest=RestApiLoadTest}; dataset and workload are
+ * configured in application-loadtest.properties and can be overridden with -D, e.g.
+ * {@code -Dvacation.loadtest.rate=1000 -Dvacation.loadtest.concurrency=64}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class RestApiLoadTest {
+
+    // New requests land in their own window so they rarely collide with the seeded history
+    private static final LocalDate CREATE_WINDOW_START = LocalDate.of(2030, 1, 1);
+    private static final int CREATE_WINDOW_DAYS = 3650;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationRequestIntervalIndex intervalIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${vacation.loadtest.employees}")
+    private int employeeCount;
+
+    @Value("${vacation.loadtest.managers}")
+    private int managerCount;
+
+    @Value("${vacation.loadtest.requests-per-employee}")
+    private int requestsPerEmployee;
+
+    @Value("${vacation.loadtest.rate}")
+    private double rate;
+
+    @Value("${vacation.loadtest.concurrency}")
+    private int concurrency;
+
+    @Value("${vacation.loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${vacation.loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${vacation.loadtest.mix}")
+    private String mix;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final List<Long> managerIds = new ArrayList<>();
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    private HttpClient client;
+
+    @BeforeEach
+    public void seed() {
+        vacationRequestRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeIds.clear();
+        managerIds.clear();
+        pendingIds.clear();
+
+        for (int m = 0; m < managerCount; m++) {
+            Employee manager = new Employee();
+            manager.setName("Manager " + m);
+            manager.setRole("MANAGER");
+            managerIds.add(employeeRepository.save(manager).getId());
+        }
+
+        // Past history: two-day requests a week apart, mostly resolved, every fifth one still pending
+        List<VacationRequest> history = new ArrayList<>();
+        for (int e = 0; e < employeeCount; e++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + e);
+            employee.setEmail("employee" + e + "@example.com");
+            employee.setRemainingVacationDays(100_000);
+            employeeIds.add(employeeRepository.save(employee).getId());
+
+            LocalDate day = LocalDate.of(2020, 1, 6);
+            for (int i = 0; i < requestsPerEmployee; i++) {
+                VacationRequest request = new VacationRequest();
+                request.setAuthor(employee);
+                request.setVacationStartDate(day);
+                request.setVacationEndDate(day.plusDays(1));
+                if (i % 5 != 0) {
+                    request.setStatus(i % 5 == 1 ? Status.REJECTED : Status.APPROVED);
+                    request.setResolved(true);
+                }
+                history.add(request);
+                day = day.plusDays(7);
+            }
+        }
+        vacationRequestRepository.saveAll(history);
+        history.stream()
+                .filter(r -> r.getStatus() == Status.PENDING)
+                .forEach(r -> pendingIds.add(r.getId()));
+        intervalIndex.rebuild();
+
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Test
+    public void mixedWorkload() throws Exception {
+        List<OpenLoopDriver.Operation> operations = operations();
+        OpenLoopDriver driver = new OpenLoopDriver(client, operations, concurrency, rate);
+
+        System.out.printf("Load test: %d employees x %d requests, %.0f arrivals/s, %d workers, mix %s%n",
+                employeeCount, requestsPerEmployee, rate, concurrency, mix);
+        if (warmupSeconds > 0) {
+            driver.run(Duration.ofSeconds(warmupSeconds));
+        }
+        OpenLoopDriver.Result result = driver.run(Duration.ofSeconds(durationSeconds));
+        result.print(System.out);
+
+        for (EndpointStats endpoint : result.endpoints()) {
+            assertEquals(0, endpoint.serverErrors(), endpoint.name() + " returned server errors");
+            assertEquals(0, endpoint.failures(), endpoint.name() + " had transport failures");
+        }
+    }
+
+    private List<OpenLoopDriver.Operation> operations() {
+        Map<String, Integer> weights = parseMix(mix);
+        List<OpenLoopDriver.Operation> operations = new ArrayList<>();
+        weights.forEach((name, weight) -> operations.add(switch (name) {
+            case "create" -> new OpenLoopDriver.Operation(name, weight, this::createRequest, this::rememberCreated);
+            case "overlap" -> new OpenLoopDriver.Operation(name, weight, this::overlapRequest, response -> { });
+            case "overview" -> new OpenLoopDriver.Operation(name, weight, this::overviewRequest, response -> { });
+            case "list" -> new OpenLoopDriver.Operation(name, weight, this::managerListRequest, response -> { });
+            case "process" -> new OpenLoopDriver.Operation(name, weight, this::processRequest, response -> { });
+            default -> throw new IllegalArgumentException("Unknown endpoint in vacation.loadtest.mix: " + name);
+        }));
+        return operations;
+    }
+
+    private HttpRequest createRequest() {
+        LocalDate start = CREATE_WINDOW_START.plusDays(ThreadLocalRandom.current().nextInt(CREATE_WINDOW_DAYS));
+        Map<String, Object> body = Map.of(
+                "authorId", randomOf(employeeIds),
+                "vacationStartDate", start.toString(),
+                "vacationEndDate", start.plusDays(ThreadLocalRandom.current().nextInt(5)).toString());
+        return json("/api/employee/requests").POST(HttpRequest.BodyPublishers.ofString(write(body))).build();
+    }
+
+    private void rememberCreated(HttpResponse<String> response) {
+        if (response.statusCode() == 201) {
+            try {
+                pendingIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+            } catch (IOException e) {
+                throw new IllegalStateException("Unreadable create response: " + response.body(), e);
+            }
+        }
+    }
+
+    private HttpRequest overlapRequest() {
+        LocalDate start = LocalDate.of(2020, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(7 * requestsPerEmployee));
+        return get("/api/employee/" + randomOf(employeeIds) + "/overlaps?start=" + start + "&end=" + start.plusDays(3));
+    }
+
+    private HttpRequest overviewRequest() {
+        return get("/api/employee/" + randomOf(employeeIds) + "/overview");
+    }
+
+    private HttpRequest managerListRequest() {
+        return get("/api/manager/requests?status=pending");
+    }
+
+    private HttpRequest processRequest() {
+        Long requestId = pendingIds.poll();
+        if (requestId == null) {
+            return null;
+        }
+        Map<String, Object> body = Map.of(
+                "managerId", randomOf(managerIds),
+                "status", ThreadLocalRandom.current().nextInt(4) == 0 ? "REJECTED" : "APPROVED");
+        return json("/api/manager/requests/" + requestId + "/process")
+                .PUT(HttpRequest.BodyPublishers.ofString(write(body)))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Long randomOf(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    // "create:20,overlap:25" -> {create=20, overlap=25}, in the given order
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
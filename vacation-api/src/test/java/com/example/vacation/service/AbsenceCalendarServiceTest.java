@@ -0,0 +1,93 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.DailyAbsenceDTO;
+import com.example.vacation.dto.DayAbsenceDTO;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.exception.InvalidDateRangeException;
+import com.example.vacation.repository.VacationIntervalView;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AbsenceCalendarServiceTest {
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Mock
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @InjectMocks
+    private AbsenceCalendarService absenceCalendarService;
+
+    @Test
+    public void testCountsOverlappingAndClampedIntervals() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        List<VacationIntervalView> intervals = List.of(
+                interval(LocalDate.of(2025, 8, 25), LocalDate.of(2025, 9, 2)),  // starts before the range
+                interval(LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 4)),
+                interval(LocalDate.of(2025, 9, 4), LocalDate.of(2025, 12, 31))  // ends after the range
+        );
+
+        int[] counts = AbsenceCalendarService.countPerDay(from, 5, intervals);
+
+        assertArrayEquals(new int[]{1, 2, 1, 2, 1}, counts);
+    }
+
+    @Test
+    public void testApprovedOnlyIsReadFromLedger() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 3);
+        when(dailyAbsenceLedger.approvedPerDay(from, to)).thenReturn(new int[]{1, 0, 0});
+
+        DailyAbsenceDTO approved = absenceCalendarService.getDailyAbsences(from, to, " ", false);
+
+        verifyNoInteractions(vacationRequestRepository);
+        assertEquals(List.of(1, 0, 0), approved.getDays().stream().map(DayAbsenceDTO::getAbsent).toList());
+        assertEquals(to, approved.getDays().get(2).getDate());
+    }
+
+    @Test
+    public void testPendingAndRoleAreComputedFromRequests() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 3);
+        when(vacationRequestRepository.findIntervalsBetween(any(), eq(from), eq(to), any()))
+                .thenReturn(List.of(interval(from, from.plusDays(1))));
+
+        DailyAbsenceDTO withPending = absenceCalendarService.getDailyAbsences(from, to, null, true);
+        absenceCalendarService.getDailyAbsences(from, to, "manager", false);
+
+        verify(vacationRequestRepository).findIntervalsBetween(EnumSet.of(Status.APPROVED, Status.PENDING), from, to, null);
+        verify(vacationRequestRepository).findIntervalsBetween(EnumSet.of(Status.APPROVED), from, to, "MANAGER");
+        verifyNoInteractions(dailyAbsenceLedger);
+        assertEquals(List.of(1, 1, 0), withPending.getDays().stream().map(DayAbsenceDTO::getAbsent).toList());
+    }
+
+    @Test
+    public void testRejectsInvertedRange() {
+        assertThrows(InvalidDateRangeException.class, () -> absenceCalendarService.getDailyAbsences(
+                LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 1), null, false));
+        verifyNoInteractions(vacationRequestRepository);
+    }
+
+    private static VacationIntervalView interval(LocalDate start, LocalDate end) {
+        return new VacationIntervalView() {
+            public Long getId() { return 1L; }
+            public Long getAuthorId() { return 1L; }
+            public LocalDate getVacationStartDate() { return start; }
+            public LocalDate getVacationEndDate() { return end; }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.BalanceResetResultDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.JobCheckpoint;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.JobCheckpointRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "vacation.balance-reset.annual-allowance=30",
+        "vacation.balance-reset.max-carry-over=5"
+})
+public class BalanceResetJobTest {
+
+    @Autowired
+    private BalanceResetJob balanceResetJob;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private final List<Employee> employees = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        jobCheckpointRepository.deleteAll();
+        employees.clear();
+
+        int[] balances = {0, 3, 12, -2, 5};
+        for (int i = 0; i < balances.length; i++) {
+            Employee employee = new Employee("Employee " + i);
+            employee.setRemainingVacationDays(balances[i]);
+            employees.add(employeeRepository.save(employee));
+        }
+        useChunkSize(2);
+    }
+
+    @AfterEach
+    public void restoreChunkSize() {
+        useChunkSize(1000);
+    }
+
+    // Typed local: passed straight to setField, the inferred target would pick the setField(Class, ...) overload
+    private void useChunkSize(int chunkSize) {
+        BalanceResetJob target = AopTestUtils.getTargetObject(balanceResetJob);
+        ReflectionTestUtils.setField(target, "chunkSize", chunkSize);
+    }
+
+    private int balance(int index) {
+        return employeeRepository.findById(employees.get(index).getId()).get().getRemainingVacationDays();
+    }
+
+    @Test
+    public void testResetAppliesAllowanceAndCappedCarryOverInChunks() {
+        long versionBefore = employeeRepository.findById(employees.get(0).getId()).get().getVersion();
+
+        BalanceResetResultDTO result = balanceResetJob.run(2040);
+
+        assertEquals(5, result.getUpdated());
+        assertEquals(3, result.getChunks());
+        assertFalse(result.isResumed());
+        assertArrayEquals(new int[]{30, 33, 35, 30, 35},
+                new int[]{balance(0), balance(1), balance(2), balance(3), balance(4)});
+        // Concurrent approvals holding the old version must fail their optimistic check
+        assertEquals(versionBefore + 1, employeeRepository.findById(employees.get(0).getId()).get().getVersion());
+
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(BalanceResetJob.JOB_NAME).get();
+        assertEquals(JobCheckpoint.State.COMPLETED, checkpoint.getState());
+        assertEquals(2040, checkpoint.getRunPeriod());
+        assertEquals(5, checkpoint.getProcessedCount());
+    }
+
+    @Test
+    public void testSecondRunForSameYearChangesNothing() {
+        balanceResetJob.run(2040);
+        Employee employee = employeeRepository.findById(employees.get(1).getId()).get();
+        employee.setRemainingVacationDays(4);
+        employeeRepository.save(employee);
+
+        BalanceResetResultDTO again = balanceResetJob.run(2040);
+
+        assertTrue(again.isAlreadyCompleted());
+        assertEquals(0, again.getUpdated());
+        assertEquals(4, balance(1));
+    }
+
+    @Test
+    public void testInterruptedRunResumesAfterCheckpoint() {
+        // As left behind by a run that committed its first chunk and then died
+        JobCheckpoint checkpoint = new JobCheckpoint(BalanceResetJob.JOB_NAME, 2040);
+        checkpoint.setLastProcessedId(employees.get(1).getId());
+        checkpoint.setProcessedCount(2);
+        jobCheckpointRepository.save(checkpoint);
+
+        BalanceResetResultDTO result = balanceResetJob.run(2040);
+
+        assertTrue(result.isResumed());
+        assertEquals(3, result.getUpdated());
+        assertEquals(5, result.getTotalProcessed());
+        assertEquals(0, balance(0));
+        assertEquals(3, balance(1));
+        assertEquals(35, balance(2));
+        assertEquals(30, balance(3));
+        assertEquals(35, balance(4));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.ChangeFeedPageDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequestEvent;
+import com.example.vacation.repository.VacationRequestEventRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Change feed throughput on the file-backed H2 database: appending events, draining the feed page
+ * by page as a consumer would, and polling when nothing changed. For comparison it also times the
+ * full manager listing that consumers used to re-read. Run with
+ * {@code mvn test -Dbenchmark=true -Dtest=ChangeFeedBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ChangeFeedBenchmarkTest {
+
+    private static final int EVENTS = 50_000;
+    private static final int EVENTS_PER_TRANSACTION = 500;
+    private static final int PAGE_SIZE = 1000;
+    private static final int IDLE_POLLS = 100_000;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationRequestEventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void measureFeedThroughput() {
+        Employee author = new Employee("Benchmark Author");
+        author.setId(1L);
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(author);
+        request.setVacationStartDate(LocalDate.of(2033, 1, 3));
+        request.setVacationEndDate(LocalDate.of(2033, 1, 7));
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = changeFeed.latestSequence();
+
+        long began = System.nanoTime();
+        for (int done = 0; done < EVENTS; done += EVENTS_PER_TRANSACTION) {
+            int first = done;
+            transaction.executeWithoutResult(status -> {
+                for (int i = 0; i < EVENTS_PER_TRANSACTION; i++) {
+                    request.setId((long) first + i);
+                    changeFeed.append(request, VacationRequestEvent.Type.CREATED);
+                }
+            });
+        }
+        long appendNanos = System.nanoTime() - began;
+
+        began = System.nanoTime();
+        long after = start;
+        int read = 0;
+        while (true) {
+            ChangeFeedPageDTO page = changeFeed.read(after, PAGE_SIZE);
+            if (page.getEvents().isEmpty()) {
+                break;
+            }
+            read += page.getEvents().size();
+            after = page.getNextAfter();
+        }
+        long drainNanos = System.nanoTime() - began;
+        assertEquals(EVENTS, read);
+
+        began = System.nanoTime();
+        for (int i = 0; i < IDLE_POLLS; i++) {
+            assertTrue(changeFeed.read(after, PAGE_SIZE).getEvents().isEmpty());
+        }
+        long idleNanos = System.nanoTime() - began;
+
+        int rows = vacationRequestRepository.findAll().size();
+        began = System.nanoTime();
+        vacationService.getAllRequests(null);
+        long fullListNanos = System.nanoTime() - began;
+
+        System.out.printf("Change feed: append %.0f events/s, drain %.0f events/s (pages of %d), idle poll %.0f ns%n",
+                EVENTS / (appendNanos / 1e9), EVENTS / (drainNanos / 1e9), PAGE_SIZE, (double) idleNanos / IDLE_POLLS);
+        System.out.printf("Full manager listing of %d requests for comparison: %.2f ms%n", rows, fullListNanos / 1e6);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        eventRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.AbsenceLedgerCheckDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.DailyAbsenceRepository;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class DailyAbsenceLedgerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2031, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2031, 6, 30);
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private DailyAbsenceLedger dailyAbsenceLedger;
+
+    @Autowired
+    private DailyAbsenceRepository dailyAbsenceRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        dailyAbsenceLedger.rebuild();
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    @Test
+    public void testApprovalAddsAndLaterRejectionReverses() {
+        VacationRequest request = pending(employee("Alice Employee"), LocalDate.of(2031, 6, 10), LocalDate.of(2031, 6, 12));
+
+        vacationService.approveVacationRequest(request.getId(), manager);
+        assertArrayEquals(new int[]{0, 1, 1, 1, 0},
+                dailyAbsenceLedger.approvedPerDay(LocalDate.of(2031, 6, 9), LocalDate.of(2031, 6, 13)));
+        assertEquals(365, dailyAbsenceRepository.findDatesBetween(LocalDate.of(2031, 1, 1), LocalDate.of(2031, 12, 31)).size());
+
+        vacationService.rejectVacationRequest(request.getId(), manager);
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0},
+                dailyAbsenceLedger.approvedPerDay(LocalDate.of(2031, 6, 9), LocalDate.of(2031, 6, 13)));
+        assertTrue(dailyAbsenceLedger.check(FROM, TO).isConsistent());
+    }
+
+    @Test
+    public void testCheckFindsDriftAndRebuildRepairsIt() {
+        VacationRequest request = pending(employee("Alice Employee"), LocalDate.of(2031, 6, 10), LocalDate.of(2031, 6, 11));
+        vacationService.approveVacationRequest(request.getId(), manager);
+
+        // Simulate drift: an approval written behind the ledger's back
+        dailyAbsenceRepository.findById(LocalDate.of(2031, 6, 10)).ifPresent(day -> {
+            day.setApprovedCount(5);
+            dailyAbsenceRepository.save(day);
+        });
+
+        AbsenceLedgerCheckDTO drifted = dailyAbsenceLedger.check(FROM, TO);
+        assertFalse(drifted.isConsistent());
+        assertEquals(1, drifted.getMismatches().size());
+        assertEquals(5, drifted.getMismatches().get(0).getStored());
+        assertEquals(1, drifted.getMismatches().get(0).getExpected());
+
+        dailyAbsenceLedger.rebuild();
+        assertTrue(dailyAbsenceLedger.check(FROM, TO).isConsistent());
+    }
+
+    @Test
+    public void testConcurrentApprovalsStayConsistent() throws Exception {
+        // Many employees off on the same days, approved in parallel
+        List<VacationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            requests.add(pending(employee("Employee " + i), LocalDate.of(2031, 6, 5), LocalDate.of(2031, 6, 7 + i % 3)));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<VacationRequest>> approvals = new ArrayList<>();
+        for (VacationRequest request : requests) {
+            approvals.add(pool.submit(() -> vacationService.approveVacationRequest(request.getId(), manager)));
+        }
+        for (Future<VacationRequest> approval : approvals) {
+            approval.get();
+        }
+        pool.shutdown();
+
+        assertTrue(dailyAbsenceLedger.check(FROM, TO).isConsistent());
+        assertEquals(24, dailyAbsenceLedger.approvedPerDay(LocalDate.of(2031, 6, 5), LocalDate.of(2031, 6, 5))[0]);
+    }
+
+    private Employee employee(String name) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        return employeeRepository.save(employee);
+    }
+
+    private VacationRequest pending(Employee author, LocalDate start, LocalDate end) {
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(author);
+        request.setVacationStartDate(start);
+        request.setVacationEndDate(end);
+        request.setStatus(Status.PENDING);
+        return vacationRequestRepository.save(request);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.UpdateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeSecondLevelCacheTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Employee employee;
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employee.setRemainingVacationDays(10);
+        employeeRepository.save(employee);
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testRepeatedLookupsAreServedFromCache() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Alice Employee", employeeRepository.findById(employee.getId()).get().getName());
+        }
+
+        // Each findById runs in its own session; at most the first one may reach the database
+        assertTrue(statistics.getPrepareStatementCount() <= 1,
+                "Expected at most one statement, got " + statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 4);
+    }
+
+    @Test
+    public void testRepeatedBulkLookupsUseQueryCache() {
+        List<Long> ids = List.of(employee.getId(), manager.getId());
+
+        employeeRepository.findAllById(ids);
+        long afterFirst = statistics.getPrepareStatementCount();
+        employeeRepository.findAllById(ids);
+
+        assertEquals(afterFirst, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getQueryCacheHitCount() >= 1);
+    }
+
+    @Test
+    public void testBalanceChangesStayCoherent() {
+        employeeRepository.findById(employee.getId());
+
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(employee);
+        request.setVacationStartDate(LocalDate.of(2025, 9, 1));
+        request.setVacationEndDate(LocalDate.of(2025, 9, 3));
+        request.setStatus(Status.PENDING);
+        vacationRequestRepository.save(request);
+
+        UpdateVacationRequestDTO dto = new UpdateVacationRequestDTO();
+        dto.setManagerId(manager.getId());
+        dto.setStatus("APPROVED");
+        vacationService.processRequest(request.getId(), dto);
+
+        long statementsBefore = statistics.getPrepareStatementCount();
+        assertEquals(7, employeeRepository.findById(employee.getId()).get().getRemainingVacationDays());
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+    }
+}
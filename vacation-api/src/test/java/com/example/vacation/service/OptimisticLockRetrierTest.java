@@ -0,0 +1,81 @@
+package com.example.vacation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OptimisticLockRetrierTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OptimisticLockRetrier retrier;
+
+    @BeforeEach
+    public void setup() {
+        retrier = new OptimisticLockRetrier(transactionManager);
+        ReflectionTestUtils.setField(retrier, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retrier, "initialBackoffMillis", 1L);
+        ReflectionTestUtils.setField(retrier, "maxBackoffMillis", 2L);
+    }
+
+    @Test
+    public void testRetriesUntilWorkSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retrier.inTransaction(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Employee", 1L);
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, retrier.getConflictCount());
+        assertEquals(2, retrier.getRetryCount());
+        assertEquals(0, retrier.getExhaustedCount());
+        // One transaction per attempt
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> retrier.inTransaction(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Employee", 1L);
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(3, retrier.getConflictCount());
+        assertEquals(2, retrier.getRetryCount());
+        assertEquals(1, retrier.getExhaustedCount());
+    }
+
+    @Test
+    public void testOtherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> retrier.inTransaction(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, retrier.getConflictCount());
+    }
+}
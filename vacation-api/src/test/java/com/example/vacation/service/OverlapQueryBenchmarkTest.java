@@ -0,0 +1,104 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the old load-and-filter overlap check with the indexed existence probe.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=OverlapQueryBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class OverlapQueryBenchmarkTest {
+
+    private static final int ROWS_PER_EMPLOYEE = 10_000;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = new Employee();
+        employee.setName("Long Tenured");
+        employeeRepository.save(employee);
+
+        // One-day requests every other day, starting in 2000
+        List<VacationRequest> history = new ArrayList<>();
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < ROWS_PER_EMPLOYEE; i++) {
+            VacationRequest request = new VacationRequest();
+            request.setAuthor(employee);
+            request.setVacationStartDate(day);
+            request.setVacationEndDate(day);
+            request.setStatus(i % 10 == 0 ? Status.REJECTED : Status.APPROVED);
+            request.setResolved(true);
+            history.add(request);
+            day = day.plusDays(2);
+        }
+        vacationRequestRepository.saveAll(history);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        vacationRequestRepository.deleteAllByAuthorIdInBulk(employee.getId());
+        employeeRepository.delete(employee);
+    }
+
+    @Test
+    public void compareStreamFilterWithExistsProbe() {
+        LocalDate start = LocalDate.of(2060, 1, 1);
+        LocalDate end = LocalDate.of(2060, 1, 10);
+
+        // Warm up both paths
+        for (int i = 0; i < 20; i++) {
+            streamFilter(start, end);
+            vacationRequestRepository.existsOverlapping(employee.getId(), start, end);
+        }
+
+        long streamNanos = 0;
+        long probeNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long t0 = System.nanoTime();
+            boolean viaStream = streamFilter(start, end);
+            long t1 = System.nanoTime();
+            boolean viaProbe = vacationRequestRepository.existsOverlapping(employee.getId(), start, end);
+            long t2 = System.nanoTime();
+
+            assertEquals(viaStream, viaProbe);
+            streamNanos += t1 - t0;
+            probeNanos += t2 - t1;
+        }
+
+        System.out.printf("Overlap check over %d rows: stream filter %.3f ms/op, exists probe %.3f ms/op%n",
+                ROWS_PER_EMPLOYEE, streamNanos / 1e6 / ITERATIONS, probeNanos / 1e6 / ITERATIONS);
+        assertTrue(probeNanos < streamNanos);
+    }
+
+    // The pre-index implementation: load the whole history, filter in memory
+    private boolean streamFilter(LocalDate startDate, LocalDate endDate) {
+        return vacationRequestRepository.findByAuthorId(employee.getId()).stream()
+                .anyMatch(r -> r.getStatus() != Status.REJECTED &&
+                        !(startDate.isAfter(r.getVacationEndDate()) || endDate.isBefore(r.getVacationStartDate())));
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a second, in-memory H2 database as the replica. Scheduled syncing is pushed out to
+ * an hour, so the replica only changes when a test calls {@link LocalReplicaSync#sync()} and the
+ * lag is visible.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "vacation.datasource.replica.url=jdbc:h2:mem:replica-routing-test;DB_CLOSE_DELAY=-1",
+        "vacation.datasource.replica.local-sync=true",
+        "vacation.datasource.replica.sync-interval-ms=3600000",
+        "vacation.datasource.replica.max-lag-ms=600000"
+})
+public class ReadReplicaRoutingTest {
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private LocalReplicaSync localReplicaSync;
+
+    @Autowired
+    private ReplicaReads replicaReads;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    private Employee employee;
+    private Employee colleague;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee("Alice Employee");
+        employee.setRemainingVacationDays(20);
+        employeeRepository.save(employee);
+
+        colleague = new Employee("Carol Colleague");
+        colleague.setRemainingVacationDays(20);
+        employeeRepository.save(colleague);
+
+        localReplicaSync.sync();
+    }
+
+    private VacationRequest create(Employee author, LocalDate from, LocalDate to) {
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(author.getId());
+        dto.setVacationStartDate(from);
+        dto.setVacationEndDate(to);
+        return vacationService.createRequest(dto);
+    }
+
+    // Saved straight through the repository: lands on the primary without marking anyone stale
+    private VacationRequest insertBehindTheService(Employee author) {
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(author);
+        request.setVacationStartDate(LocalDate.of(2034, 6, 5));
+        request.setVacationEndDate(LocalDate.of(2034, 6, 7));
+        request.setStatus(Status.PENDING);
+        request.setRequestCreatedAt(LocalDateTime.now());
+        return vacationRequestRepository.save(request);
+    }
+
+    private static boolean contains(List<VacationRequestSummaryDTO> rows, Long requestId) {
+        return rows.stream().anyMatch(row -> row.getId().equals(requestId));
+    }
+
+    @Test
+    public void testManagerListingReadsTheReplica() throws Exception {
+        VacationRequest request = create(employee, LocalDate.of(2034, 3, 6), LocalDate.of(2034, 3, 8));
+
+        assertFalse(contains(vacationService.getAllRequests(null), request.getId()), "replica has not caught up yet");
+
+        localReplicaSync.sync();
+        assertTrue(contains(vacationService.getAllRequests(null), request.getId()));
+    }
+
+    @Test
+    public void testEmployeeReadsOwnWriteFromPrimaryRightAfterCreate() {
+        VacationRequest request = create(employee, LocalDate.of(2034, 4, 3), LocalDate.of(2034, 4, 5));
+
+        assertTrue(replicaReads.isStale(employee.getId()));
+        assertTrue(contains(vacationService.getRequestsForEmployee(employee.getId(), null), request.getId()));
+        assertTrue(contains(vacationService.getEmployeeVacationOverview(employee.getId(), null).getVacationRequests(),
+                request.getId()));
+        assertEquals(1, vacationService.getOverlappingRequestsForEmployee(
+                employee, LocalDate.of(2034, 4, 4), LocalDate.of(2034, 4, 4)).size());
+    }
+
+    @Test
+    public void testGuardIsPerEmployeeAndLiftsOnceReplicated() throws Exception {
+        create(employee, LocalDate.of(2034, 5, 1), LocalDate.of(2034, 5, 2));
+        VacationRequest unseen = insertBehindTheService(colleague);
+
+        // The colleague wrote nothing through the service, so their reads go to the lagging replica
+        assertFalse(replicaReads.isStale(colleague.getId()));
+        assertFalse(contains(vacationService.getRequestsForEmployee(colleague.getId(), null), unseen.getId()));
+
+        localReplicaSync.sync();
+        assertFalse(replicaReads.isStale(employee.getId()));
+        assertTrue(contains(vacationService.getRequestsForEmployee(colleague.getId(), null), unseen.getId()));
+    }
+
+    @Test
+    public void testWritesAndUnmarkedReadsUseThePrimary() {
+        VacationRequest request = create(employee, LocalDate.of(2034, 7, 3), LocalDate.of(2034, 7, 4));
+
+        // Neither the approval's lookups nor the plain repository read opt in to the replica
+        VacationRequest approved = vacationService.approveVacationRequest(request.getId(), colleague);
+        assertEquals(Status.APPROVED, approved.getStatus());
+        assertEquals(Status.APPROVED, vacationService.getVacationRequestById(request.getId()).getStatus());
+    }
+
+    @Test
+    public void testReplicaReadsDoNotFillTheSecondLevelCache() {
+        // Changed on the primary only, with the cached copy dropped as BalanceResetJob does
+        colleague.setRemainingVacationDays(25);
+        employeeRepository.save(colleague);
+        entityManagerFactory.getCache().evict(Employee.class, colleague.getId());
+
+        assertEquals(20, vacationService.getEmployeeVacationOverview(colleague.getId(), null).getRemainingVacationDays(),
+                "read from the lagging replica");
+        assertFalse(entityManagerFactory.getCache().contains(Employee.class, colleague.getId()));
+        assertEquals(25, employeeRepository.findById(colleague.getId()).get().getRemainingVacationDays());
+    }
+
+    @Test
+    public void testSyncLeavesReferentialIntegrityOnForReplicaReaders() throws Exception {
+        localReplicaSync.sync();
+
+        // Written straight to the replica; the next sync replaces it
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        String insert = "insert into vacation_request (id, author_id, resolved, version) values (?, ?, false, 0)";
+        replica.update(insert, -1L, employee.getId());
+        assertThrows(DataIntegrityViolationException.class, () -> replica.update(insert, -2L, -1L));
+    }
+}
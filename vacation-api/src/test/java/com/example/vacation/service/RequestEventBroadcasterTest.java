@@ -0,0 +1,113 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.VacationRequestEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestEventBroadcasterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestEventBroadcaster broadcaster = new RequestEventBroadcaster(registry, 2, 2, 60_000);
+
+    // Records what would have been written to the connection; optionally blocks like a stalled socket
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Integer> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch unblock;
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            sent.add(sent.size());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private static VacationRequestEvent event(long sequence) {
+        VacationRequestEvent event = new VacationRequestEvent();
+        event.setSequence(sequence);
+        event.setType(VacationRequestEvent.Type.CREATED);
+        return event;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    @AfterEach
+    public void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    public void testDeliversEveryEventToEverySubscriber() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter second = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.register(first);
+        broadcaster.register(second);
+
+        for (long sequence = 1; sequence <= 20; sequence++) {
+            broadcaster.publish(event(sequence));
+            // Stay within the two-event buffer
+            long expected = sequence;
+            await(() -> first.sent.size() == expected && second.sent.size() == expected);
+        }
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    public void testStalledSubscriberIsEvictedWithoutBlockingPublisher() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stalled);
+        RecordingEmitter fast = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        long began = System.nanoTime();
+        broadcaster.publish(event(1));
+        // Let the slow subscriber's drain take event 1 and block in send()
+        Thread.sleep(50);
+        for (long sequence = 2; sequence <= 4; sequence++) {
+            broadcaster.publish(event(sequence));
+            long expected = sequence;
+            await(() -> fast.sent.size() == expected);
+        }
+        assertTrue(System.nanoTime() - began < TimeUnit.SECONDS.toNanos(2), "publisher waited on the stalled subscriber");
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1.0, registry.get("vacation.stream.evicted").counter().count());
+        assertFalse(slow.completed, "completing must wait until the stalled send returns");
+
+        stalled.countDown();
+        await(() -> slow.completed);
+        assertEquals(1, slow.sent.size());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.VacationRequestSummaryDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares loading request entities (and mapping them) with selecting the flat summary
+ * projection directly, in latency and bytes allocated by the calling thread.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=RequestListProjectionBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RequestListProjectionBenchmarkTest {
+
+    private static final int EMPLOYEES = 50;
+    private static final int ROWS_PER_EMPLOYEE = 200;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Employee> employees = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employees.clear();
+
+        List<VacationRequest> history = new ArrayList<>();
+        for (int e = 0; e < EMPLOYEES; e++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + e);
+            employees.add(employeeRepository.save(employee));
+
+            LocalDate day = LocalDate.of(2000, 1, 1);
+            for (int i = 0; i < ROWS_PER_EMPLOYEE; i++) {
+                VacationRequest request = new VacationRequest();
+                request.setAuthor(employee);
+                request.setVacationStartDate(day);
+                request.setVacationEndDate(day.plusDays(1));
+                request.setStatus(i % 3 == 0 ? Status.PENDING : Status.APPROVED);
+                history.add(request);
+                day = day.plusDays(7);
+            }
+        }
+        vacationRequestRepository.saveAll(history);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        vacationRequestRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void compareEntityListsWithProjections() {
+        Long employeeId = employees.get(0).getId();
+
+        Measurement allEntities = measure(() ->
+                vacationRequestRepository.findAll().stream().map(VacationRequestSummaryDTO::from).toList());
+        Measurement allSummaries = measure(() -> vacationRequestRepository.findAllSummaries());
+        Measurement employeeEntities = measure(() ->
+                vacationRequestRepository.findByAuthorId(employeeId).stream().map(VacationRequestSummaryDTO::from).toList());
+        Measurement employeeSummaries = measure(() -> vacationRequestRepository.findSummariesByAuthorId(employeeId));
+
+        report("GET /api/manager/requests", allEntities, allSummaries);
+        report("GET /api/employee/{id}/requests", employeeEntities, employeeSummaries);
+
+        assertTrue(allSummaries.bytesPerOp < allEntities.bytesPerOp);
+    }
+
+    // Each call runs in its own transaction so entities are materialized in a fresh persistence context
+    private Measurement measure(Supplier<List<VacationRequestSummaryDTO>> query) {
+        for (int i = 0; i < 10; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long began = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = transactionTemplate.execute(status -> query.get()).size();
+        }
+        long elapsed = System.nanoTime() - began;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Measurement(rows, elapsed / 1e6 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static void report(String endpoint, Measurement entities, Measurement summaries) {
+        System.out.printf("%s (%d rows): entities %.2f ms/op %d KB/op, projection %.2f ms/op %d KB/op%n",
+                endpoint, summaries.rows,
+                entities.millisPerOp, entities.bytesPerOp / 1024,
+                summaries.millisPerOp, summaries.bytesPerOp / 1024);
+    }
+
+    private record Measurement(int rows, double millisPerOp, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.UpdateVacationRequestDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of approvals and entity reads on the file-backed H2 database, comparing one
+ * transaction per approval with the old two auto-commit saves, and read-only reads with
+ * read-write ones. Run with {@code mvn test -Dbenchmark=true -Dtest=TransactionBoundaryBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TransactionBoundaryBenchmarkTest {
+
+    private static final int APPROVALS = 500;
+    private static final int READS = 200;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        vacationRequestRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void compareApprovalThroughput() {
+        List<Long> autoCommitIds = seedPending(APPROVALS);
+        List<Long> transactionalIds = seedPending(APPROVALS);
+
+        long began = System.nanoTime();
+        for (Long id : autoCommitIds) {
+            approveWithTwoCommits(id);
+        }
+        long autoCommit = System.nanoTime() - began;
+
+        UpdateVacationRequestDTO dto = new UpdateVacationRequestDTO();
+        dto.setManagerId(manager.getId());
+        dto.setStatus("APPROVED");
+        began = System.nanoTime();
+        for (Long id : transactionalIds) {
+            vacationService.processRequest(id, dto);
+        }
+        long transactional = System.nanoTime() - began;
+
+        System.out.printf("Approvals on H2 file DB: two auto-commits %.0f ops/s, one transaction %.0f ops/s%n",
+                APPROVALS / (autoCommit / 1e9), APPROVALS / (transactional / 1e9));
+        assertEquals(2L * APPROVALS, vacationRequestRepository.findByStatus(Status.APPROVED).size());
+    }
+
+    @Test
+    public void compareReadOnlyAndReadWriteReads() {
+        seedPending(2_000);
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Entity reads: the read-write transaction snapshots every row for dirty checking and flushes on commit
+        for (int i = 0; i < 20; i++) {
+            readWrite.execute(status -> vacationRequestRepository.findAll().size());
+            readOnly.execute(status -> vacationRequestRepository.findAll().size());
+        }
+
+        long began = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            readWrite.execute(status -> vacationRequestRepository.findAll().size());
+        }
+        long readWriteNanos = System.nanoTime() - began;
+
+        began = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            readOnly.execute(status -> vacationRequestRepository.findAll().size());
+        }
+        long readOnlyNanos = System.nanoTime() - began;
+
+        System.out.printf("Reads of 2000 entities: read-write %.0f ops/s, read-only %.0f ops/s%n",
+                READS / (readWriteNanos / 1e9), READS / (readOnlyNanos / 1e9));
+    }
+
+    // The pre-transactional processRequest: author and request saved in separate auto-commit transactions
+    private void approveWithTwoCommits(Long requestId) {
+        VacationRequest request = vacationRequestRepository.findById(requestId).orElseThrow();
+        Employee author = request.getAuthor();
+        author.setRemainingVacationDays(author.getRemainingVacationDays() - 1);
+        employeeRepository.save(author);
+
+        request.setResolvedBy(manager);
+        request.setStatus(Status.APPROVED);
+        request.setResolved(true);
+        vacationRequestRepository.save(request);
+    }
+
+    // One single-day request per fresh employee, so approvals never contend on a balance
+    private List<Long> seedPending(int count) {
+        List<Employee> authors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Employee author = new Employee();
+            author.setName("Employee " + i);
+            authors.add(author);
+        }
+        employeeRepository.saveAll(authors);
+
+        List<VacationRequest> requests = new ArrayList<>();
+        for (Employee author : authors) {
+            VacationRequest request = new VacationRequest();
+            request.setAuthor(author);
+            request.setVacationStartDate(LocalDate.of(2030, 1, 1));
+            request.setVacationEndDate(LocalDate.of(2030, 1, 1));
+            requests.add(request);
+        }
+        vacationRequestRepository.saveAll(requests);
+        return requests.stream().map(VacationRequest::getId).toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.VacationIntervalView;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VacationRequestIntervalIndexTest {
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @InjectMocks
+    private VacationRequestIntervalIndex intervalIndex;
+
+    private static VacationIntervalView interval(long id, long authorId, LocalDate start, LocalDate end) {
+        return new VacationIntervalView() {
+            public Long getId() { return id; }
+            public Long getAuthorId() { return authorId; }
+            public LocalDate getVacationStartDate() { return start; }
+            public LocalDate getVacationEndDate() { return end; }
+        };
+    }
+
+    private static VacationRequest request(long id, long authorId, LocalDate start, LocalDate end, Status status) {
+        Employee author = new Employee();
+        author.setId(authorId);
+
+        VacationRequest request = new VacationRequest();
+        request.setId(id);
+        request.setAuthor(author);
+        request.setVacationStartDate(start);
+        request.setVacationEndDate(end);
+        request.setStatus(status);
+        return request;
+    }
+
+    @Test
+    public void testDetectsOverlapsAgainstResidentIntervals() {
+        when(vacationRequestRepository.findAllIntervals(Status.REJECTED)).thenReturn(List.of(
+                interval(1L, 1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5)),
+                interval(2L, 1L, LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 10))
+        ));
+        intervalIndex.rebuild();
+
+        assertTrue(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 9, 5), LocalDate.of(2025, 9, 6)));
+        assertTrue(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 9, 20), LocalDate.of(2025, 10, 1)));
+        assertFalse(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 9, 6), LocalDate.of(2025, 9, 30)));
+        assertFalse(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31)));
+
+        verify(vacationRequestRepository, never()).existsOverlapping(anyLong(), any(), any());
+    }
+
+    @Test
+    public void testLongIntervalIsFoundBehindLaterStarts() {
+        when(vacationRequestRepository.findAllIntervals(Status.REJECTED)).thenReturn(List.of(
+                interval(1L, 1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)),
+                interval(2L, 1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2))
+        ));
+        intervalIndex.rebuild();
+
+        assertTrue(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 2)));
+    }
+
+    @Test
+    public void testNonResidentEmployeeIsProbedInDatabase() {
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        LocalDate end = LocalDate.of(2025, 9, 5);
+        when(vacationRequestRepository.existsOverlapping(3L, start, end)).thenReturn(true);
+
+        assertTrue(intervalIndex.hasOverlap(3L, start, end));
+        verify(vacationRequestRepository, never()).findIntervalsByAuthorId(anyLong(), any());
+    }
+
+    @Test
+    public void testUpdateAddsAndRemovesIntervals() {
+        when(vacationRequestRepository.findAllIntervals(Status.REJECTED)).thenReturn(List.of(
+                interval(1L, 1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2))
+        ));
+        intervalIndex.rebuild();
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        LocalDate end = LocalDate.of(2025, 9, 5);
+
+        assertFalse(intervalIndex.hasOverlap(1L, start, end));
+
+        intervalIndex.update(request(7L, 1L, start, end, Status.PENDING));
+        assertTrue(intervalIndex.hasOverlap(1L, start, end));
+
+        intervalIndex.update(request(7L, 1L, start, end, Status.REJECTED));
+        assertFalse(intervalIndex.hasOverlap(1L, start, end));
+    }
+
+    @Test
+    public void testFirstWriteLoadsEmployeeIntoIndex() {
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        LocalDate end = LocalDate.of(2025, 9, 5);
+        when(vacationRequestRepository.findIntervalsByAuthorId(1L, Status.REJECTED))
+                .thenReturn(List.of(interval(7L, 1L, start, end)));
+
+        intervalIndex.update(request(7L, 1L, start, end, Status.PENDING));
+
+        assertTrue(intervalIndex.hasOverlap(1L, start, end));
+        verify(vacationRequestRepository, never()).existsOverlapping(anyLong(), any(), any());
+    }
+
+    @Test
+    public void testRebuildReplacesIndexFromDatabase() {
+        when(vacationRequestRepository.findAllIntervals(Status.REJECTED)).thenReturn(List.of(
+                interval(1L, 1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5)),
+                interval(2L, 2L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5))
+        ));
+
+        intervalIndex.rebuild();
+
+        assertTrue(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 9, 3), LocalDate.of(2025, 9, 3)));
+        assertTrue(intervalIndex.hasOverlap(2L, LocalDate.of(2025, 9, 3), LocalDate.of(2025, 9, 3)));
+        verify(vacationRequestRepository, never()).existsOverlapping(anyLong(), any(), any());
+    }
+
+    @Test
+    public void testWriteCommittedDuringRebuildIsNotLost() {
+        LocalDate start = LocalDate.of(2025, 11, 3);
+        LocalDate end = LocalDate.of(2025, 11, 7);
+        List<VacationIntervalView> snapshot = List.of(
+                interval(1L, 1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5)));
+        when(vacationRequestRepository.findIntervalsByAuthorId(1L, Status.REJECTED))
+                .thenReturn(List.of(snapshot.get(0), interval(9L, 1L, start, end)));
+        // Request 9 commits after the snapshot was read but before the rebuild stores it
+        when(vacationRequestRepository.findAllIntervals(Status.REJECTED)).thenAnswer(invocation -> {
+            intervalIndex.update(request(9L, 1L, start, end, Status.PENDING));
+            return snapshot;
+        });
+
+        intervalIndex.rebuild();
+
+        assertTrue(intervalIndex.hasOverlap(1L, start, end));
+        assertTrue(intervalIndex.hasOverlap(1L, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 2)));
+    }
+}
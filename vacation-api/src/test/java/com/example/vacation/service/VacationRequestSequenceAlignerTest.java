@@ -0,0 +1,86 @@
+package com.example.vacation.service;
+
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class VacationRequestSequenceAlignerTest {
+
+    @Autowired
+    private VacationRequestSequenceAligner aligner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    private long originalNext;
+
+    @BeforeEach
+    public void setup() {
+        originalNext = nextValue();
+
+        Employee author = employeeRepository.save(new Employee("Legacy Author"));
+        VacationRequest request = new VacationRequest();
+        request.setAuthor(author);
+        request.setVacationStartDate(LocalDate.of(2030, 2, 4));
+        request.setVacationEndDate(LocalDate.of(2030, 2, 5));
+        vacationRequestRepository.save(request);
+    }
+
+    @AfterEach
+    public void restoreSequence() {
+        // Hibernate still holds a block handed out before the test; never go back below it
+        jdbcTemplate.execute("alter sequence vacation_request_seq restart with " + Math.max(originalNext, nextValue()));
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = 'VACATION_REQUEST_SEQ'", Long.class);
+    }
+
+    private long increment() {
+        return jdbcTemplate.queryForObject(
+                "select increment from information_schema.sequences where sequence_name = 'VACATION_REQUEST_SEQ'", Long.class);
+    }
+
+    private long maxId() {
+        return jdbcTemplate.queryForObject("select max(id) from vacation_request", Long.class);
+    }
+
+    @Test
+    public void testSequenceRestartingBelowExistingIdsIsMovedPastThem() {
+        // As left by ddl-auto=update on a database whose ids came from an identity column
+        jdbcTemplate.execute("alter sequence vacation_request_seq restart with 1");
+
+        aligner.align();
+
+        assertTrue(nextValue() - increment() >= maxId(), "first block handed out must start above max(id)");
+    }
+
+    @Test
+    public void testSequenceAlreadyAheadIsLeftAlone() {
+        long ahead = maxId() + 10 * increment();
+        jdbcTemplate.execute("alter sequence vacation_request_seq restart with " + ahead);
+
+        aligner.align();
+
+        assertEquals(ahead, nextValue());
+    }
+}
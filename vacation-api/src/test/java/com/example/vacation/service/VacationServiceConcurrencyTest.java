@@ -0,0 +1,175 @@
+package com.example.vacation.service;
+
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.dto.UpdateVacationRequestDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires concurrent creates and approvals at the same employees and checks that the
+ * per-employee locking never lets two live requests overlap or a balance go negative.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class VacationServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 40;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private EmployeeLocks employeeLocks;
+
+    @Autowired
+    private WorkingDayCalendar workingDayCalendar;
+
+    private final List<Employee> employees = new ArrayList<>();
+    private Employee manager;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+        employees.clear();
+
+        for (int i = 0; i < THREADS; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setRemainingVacationDays(15);
+            employees.add(employeeRepository.save(employee));
+        }
+
+        manager = new Employee();
+        manager.setName("Bob Manager");
+        manager.setRole("MANAGER");
+        employeeRepository.save(manager);
+    }
+
+    @AfterEach
+    public void restoreLocks() {
+        useLocks(employeeLocks);
+    }
+
+    // Typed local: passed straight to setField, the inferred target would pick the setField(Class, ...) overload
+    private void useLocks(EmployeeLocks locks) {
+        VacationService target = AopTestUtils.getTargetObject(vacationService);
+        ReflectionTestUtils.setField(target, "employeeLocks", locks);
+    }
+
+    @Test
+    public void testNoDoubleBookingOrOverdrawForSameEmployee() throws Exception {
+        Employee employee = employees.get(0);
+
+        runWorkload(List.of(employee));
+
+        List<VacationRequest> live = vacationRequestRepository.findByAuthorId(employee.getId()).stream()
+                .filter(r -> r.getStatus() != Status.REJECTED)
+                .sorted(Comparator.comparing(VacationRequest::getVacationStartDate))
+                .toList();
+        for (int i = 1; i < live.size(); i++) {
+            assertTrue(live.get(i).getVacationStartDate().isAfter(live.get(i - 1).getVacationEndDate()),
+                    "Requests " + live.get(i - 1).getId() + " and " + live.get(i).getId() + " overlap");
+        }
+
+        int approvedDays = live.stream()
+                .filter(r -> r.getStatus() == Status.APPROVED)
+                .mapToInt(r -> workingDayCalendar.workingDaysBetween(r.getVacationStartDate(), r.getVacationEndDate()))
+                .sum();
+        int remaining = employeeRepository.findById(employee.getId()).get().getRemainingVacationDays();
+        assertTrue(remaining >= 0);
+        assertEquals(15 - approvedDays, remaining);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void compareStripedLocksWithGlobalLock() throws Exception {
+        long striped = runWorkload(employees);
+
+        setup();
+        useLocks(new EmployeeLocks(1));
+        long global = runWorkload(employees);
+
+        int operations = THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("%d ops over %d employees: striped %.0f ops/s, global lock %.0f ops/s%n",
+                operations, employees.size(),
+                operations / (striped / 1e9), operations / (global / 1e9));
+    }
+
+    /**
+     * Each thread alternates between creating a short request on a random day in a small window
+     * (so overlaps are frequent) and approving some pending request of the same targets.
+     * Returns the elapsed wall time in nanoseconds.
+     */
+    private long runWorkload(List<Employee> targets) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        LocalDate window = LocalDate.of(2030, 1, 1);
+
+        for (int t = 0; t < THREADS; t++) {
+            Employee target = targets.get(t % targets.size());
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    try {
+                        if (i % 2 == 0) {
+                            LocalDate day = window.plusDays(ThreadLocalRandom.current().nextInt(60));
+                            CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+                            dto.setAuthorId(target.getId());
+                            dto.setVacationStartDate(day);
+                            dto.setVacationEndDate(day.plusDays(1));
+                            vacationService.createRequest(dto);
+                        } else {
+                            List<VacationRequestSummaryDTO> pending = vacationService.getRequestsForEmployee(target.getId(), Status.PENDING);
+                            if (!pending.isEmpty()) {
+                                UpdateVacationRequestDTO dto = new UpdateVacationRequestDTO();
+                                dto.setManagerId(manager.getId());
+                                dto.setStatus("APPROVED");
+                                vacationService.processRequest(pending.get(0).getId(), dto);
+                            }
+                        }
+                    } catch (RuntimeException expected) {
+                        // overlaps, exhausted balances and lost approval races are part of the workload
+                    }
+                }
+                return null;
+            });
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES));
+        return System.nanoTime() - began;
+    }
+}
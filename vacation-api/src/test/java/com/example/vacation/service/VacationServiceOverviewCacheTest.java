@@ -0,0 +1,111 @@
+package com.example.vacation.service;
+
+import com.example.vacation.config.CacheConfig;
+import com.example.vacation.dto.CreateVacationRequestDTO;
+import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.entity.Employee;
+import com.example.vacation.entity.VacationRequest.Status;
+import com.example.vacation.repository.EmployeeRepository;
+import com.example.vacation.repository.VacationRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class VacationServiceOverviewCacheTest {
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmployeeVersions employeeVersions;
+
+    private Employee employee;
+    private Cache overviews;
+
+    @BeforeEach
+    public void setup() {
+        vacationRequestRepository.deleteAll();
+        employeeRepository.deleteAll();
+
+        employee = new Employee();
+        employee.setName("Alice Employee");
+        employeeRepository.save(employee);
+
+        overviews = cacheManager.getCache(CacheConfig.EMPLOYEE_OVERVIEW_CACHE);
+        overviews.clear();
+    }
+
+    private Object key(Employee author, Status statusFilter) {
+        return EmployeeOverviewKeyGenerator.key(author.getId(), statusFilter, employeeVersions.version(author.getId()));
+    }
+
+    private void create(LocalDate from, LocalDate to) {
+        CreateVacationRequestDTO dto = new CreateVacationRequestDTO();
+        dto.setAuthorId(employee.getId());
+        dto.setVacationStartDate(from);
+        dto.setVacationEndDate(to);
+        vacationService.createRequest(dto);
+    }
+
+    @Test
+    public void testOverviewIsCachedPerStatusFilter() {
+        EmployeeVacationOverviewDTO first = vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        EmployeeVacationOverviewDTO second = vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        vacationService.getEmployeeVacationOverview(employee.getId(), Status.PENDING);
+
+        assertSame(first, second);
+        assertNotNull(overviews.get(key(employee, null)));
+        assertNotNull(overviews.get(key(employee, Status.PENDING)));
+    }
+
+    @Test
+    public void testCreateEvictsEveryFilterOfThatEmployee() {
+        Employee other = new Employee();
+        other.setName("Bob Employee");
+        employeeRepository.save(other);
+
+        vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        vacationService.getEmployeeVacationOverview(employee.getId(), Status.PENDING);
+        vacationService.getEmployeeVacationOverview(other.getId(), null);
+
+        Object before = key(employee, null);
+        create(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2));
+
+        assertNull(overviews.get(before));
+        assertNull(overviews.get(key(employee, null)));
+        assertNull(overviews.get(key(employee, Status.PENDING)));
+        assertNotNull(overviews.get(key(other, null)));
+
+        EmployeeVacationOverviewDTO refreshed = vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        assertEquals(1, refreshed.getVacationRequests().size());
+    }
+
+    @Test
+    public void testOverviewLoadedBeforeACommitIsNotServedAfterIt() {
+        EmployeeVacationOverviewDTO stale = vacationService.getEmployeeVacationOverview(employee.getId(), null);
+        Object before = key(employee, null);
+
+        create(LocalDate.of(2025, 9, 8), LocalDate.of(2025, 9, 9));
+        // A load that read the pre-commit state and finished after the write's eviction
+        overviews.put(before, stale);
+
+        assertEquals(1, vacationService.getEmployeeVacationOverview(employee.getId(), null).getVacationRequests().size());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.vacation.service;
 
 import com.example.vacation.dto.EmployeeVacationOverviewDTO;
+import com.example.vacation.dto.VacationRequestSummaryDTO;
 import com.example.vacation.entity.Employee;
 import com.example.vacation.entity.VacationRequest;
 import com.example.vacation.repository.EmployeeRepository;
@@ -30,6 +31,12 @@ public class VacationServiceOverviewTest {
     @Mock
     private VacationRequestRepository vacationRequestRepository;
 
+    @Mock
+    private ReplicaReads replicaReads;
+
+    @Mock
+    private EmployeeVersions employeeVersions;
+
     @InjectMocks
     private VacationService vacationService;
 
@@ -53,7 +60,8 @@ public class VacationServiceOverviewTest {
         request.setVacationEndDate(LocalDate.of(2025, 9, 5));
 
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
-        when(vacationRequestRepository.findByAuthorId(1L)).thenReturn(List.of(request));
+        VacationRequestSummaryDTO summary = VacationRequestSummaryDTO.from(request);
+        when(vacationRequestRepository.findSummariesByAuthorId(1L)).thenReturn(List.of(summary));
 
         EmployeeVacationOverviewDTO overview = vacationService.getEmployeeVacationOverview(1L, null);
 
@@ -62,13 +70,13 @@ public class VacationServiceOverviewTest {
         assertEquals(employee.getRole(), overview.getRole());
         assertEquals(employee.getRemainingVacationDays(), overview.getRemainingVacationDays());
         assertEquals(1, overview.getVacationRequests().size());
-        assertEquals(request, overview.getVacationRequests().get(0));
+        assertEquals(summary, overview.getVacationRequests().get(0));
     }
 
     @Test
     public void testGetEmployeeVacationOverview_noRequests() {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
-        when(vacationRequestRepository.findByAuthorId(1L)).thenReturn(List.of());
+        when(vacationRequestRepository.findSummariesByAuthorId(1L)).thenReturn(List.of());
 
         EmployeeVacationOverviewDTO overview = vacationService.getEmployeeVacationOverview(1L, null);
 
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -22,6 +23,24 @@ public class VacationServiceTest {
     @Mock
     private VacationRequestRepository vacationRequestRepository;
 
+    @Mock
+    private VacationRequestIntervalIndex intervalIndex;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private RequestEventBroadcaster requestEventBroadcaster;
+
+    @Mock
+    private EmployeeVersions employeeVersions;
+
+    @Mock
+    private ReplicaReads replicaReads;
+
     @InjectMocks
     private VacationService vacationService; // Your service class
 
@@ -0,0 +1,80 @@
+package com.example.vacation.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkingDayCalendarTest {
+
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private static int countByLoop(Set<DayOfWeek> weekend, Set<LocalDate> holidays, LocalDate start, LocalDate end) {
+        int days = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (!weekend.contains(day.getDayOfWeek()) && !holidays.contains(day)) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    @Test
+    public void testWeekendsAreNotCharged() {
+        WorkingDayCalendar calendar = new WorkingDayCalendar(WEEKEND, Set.of());
+
+        // Fri 2025-10-03 .. Tue 2025-10-07
+        assertEquals(3, calendar.workingDaysBetween(LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 7)));
+        assertEquals(0, calendar.workingDaysBetween(LocalDate.of(2025, 10, 4), LocalDate.of(2025, 10, 5)));
+        assertEquals(1, calendar.workingDaysBetween(LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 6)));
+        assertEquals(0, calendar.workingDaysBetween(LocalDate.of(2025, 10, 7), LocalDate.of(2025, 10, 6)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 10, 4)));
+    }
+
+    @Test
+    public void testHolidaysAndWeekendDaysFromConfiguration() {
+        ByteArrayResource file = new ByteArrayResource(String.join("\n",
+                "# company holidays",
+                "2025-12-25",
+                "2025-12-26   # boxing day",
+                "",
+                "2026-01-01").getBytes(StandardCharsets.UTF_8));
+        WorkingDayCalendar calendar = new WorkingDayCalendar("friday, saturday", file);
+
+        // Mon 2025-12-22 .. Sun 2026-01-04: 14 days, 4 weekend (Fri/Sat), 3 holidays (Thu, Fri, Thu)
+        // with 2025-12-26 both a holiday and a weekend day
+        assertEquals(8, calendar.workingDaysBetween(LocalDate.of(2025, 12, 22), LocalDate.of(2026, 1, 4)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2025, 12, 28)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 12, 25)));
+    }
+
+    @Test
+    public void testInvalidHolidayLineFailsFast() {
+        ByteArrayResource file = new ByteArrayResource("2025-13-01".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalStateException.class, () -> new WorkingDayCalendar("SATURDAY,SUNDAY", file));
+    }
+
+    @Test
+    public void testMatchesDayByDayCountAcrossYearsAndLeapDays() {
+        Set<LocalDate> holidays = Set.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 12, 31),
+                LocalDate.of(2027, 1, 1), LocalDate.of(2028, 7, 4));
+        WorkingDayCalendar calendar = new WorkingDayCalendar(WEEKEND, holidays);
+        Random random = new Random(7);
+        LocalDate base = LocalDate.of(2023, 1, 1);
+
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = base.plusDays(random.nextInt(6 * 365));
+            LocalDate end = start.plusDays(random.nextInt(i % 10 == 0 ? 2000 : 90));
+            assertEquals(countByLoop(WEEKEND, holidays, start, end), calendar.workingDaysBetween(start, end),
+                    start + ".." + end);
+        }
+    }
+}